@@ -0,0 +1,35 @@
+// Gera .br e .gz ao lado dos arquivos de texto do build. O Spring (EncodedResourceResolver) entrega a
+// versão pré-comprimida conforme o Accept-Encoding, sem comprimir o bundle a cada requisição.
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const EXTENSOES = ['.js', '.css', '.html', '.json', '.svg', '.txt', '.map'];
+const TAMANHO_MINIMO = 1024;
+
+function percorrer(diretorio) {
+  for (const entrada of fs.readdirSync(diretorio, { withFileTypes: true })) {
+    const caminho = path.join(diretorio, entrada.name);
+    if (entrada.isDirectory()) {
+      percorrer(caminho);
+    } else if (EXTENSOES.includes(path.extname(entrada.name))) {
+      comprimir(caminho);
+    }
+  }
+}
+
+function comprimir(arquivo) {
+  const conteudo = fs.readFileSync(arquivo);
+  if (conteudo.length < TAMANHO_MINIMO) {
+    return;
+  }
+  fs.writeFileSync(arquivo + '.br', zlib.brotliCompressSync(conteudo, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: conteudo.length,
+    },
+  }));
+  fs.writeFileSync(arquivo + '.gz', zlib.gzipSync(conteudo, { level: zlib.constants.Z_BEST_COMPRESSION }));
+}
+
+percorrer(path.join(__dirname, '..', 'build'));
@@ -1,5 +1,5 @@
 import React, { useState } from 'react';
-import { clearBasicAuth } from './services/api';
+import { clearAuthToken } from './services/api';
 import { Routes, Route, Navigate } from 'react-router-dom';
 import Navbar from './components/Navbar';
 import Footer from './components/Footer';
@@ -36,7 +36,7 @@ function App() {
   const handleLogout = () => {
     setUser(null);
     localStorage.removeItem('play12_user');
-    clearBasicAuth();
+    clearAuthToken();
   };
 
   return (
@@ -4,6 +4,7 @@ import { apiFetch } from '../services/api';
 import { mockDashboard, mockOperadores, mockGames, mockSquads } from '../data/mockData';
 
 const roles = ['LIDER', 'OPERADOR', 'AVULSO'];
+const tipos = ['JOGADOR', 'MODERADOR', 'ADMIN'];
 
 const TEAM_SQUADS = {
   BLUFOR: ['ALPHA', 'BRAVO', 'CHARLIE', 'DELTA'],
@@ -122,6 +123,20 @@ export default function AdminPanel({ user, onLogout }) {
     }
   };
 
+  // Única forma de criar um ADMIN: o cadastro público sempre cria JOGADOR
+  const handleTipoChange = async (id, tipo) => {
+    try {
+      const response = await apiFetch(`/operadores/${id}/admin`, {
+        method: 'PUT',
+        body: JSON.stringify({ tipo })
+      });
+      const updated = response.data || response;
+      setPlayers(prev => prev.map(p => (p.id === id ? updated : p)));
+    } catch (err) {
+      setError(err.message || 'Erro ao atualizar tipo');
+    }
+  };
+
   const handleSquadChange = async (id, squadId) => {
     try {
       const response = await apiFetch(`/operadores/${id}/admin`, {
@@ -219,6 +234,7 @@ export default function AdminPanel({ user, onLogout }) {
           horario: field === 'time' ? value : target.horario,
           local: updatedLocation,
           confirmados: target.confirmados,
+          capacidade: target.capacidade,
           status: target.status
         })
       });
@@ -536,6 +552,7 @@ export default function AdminPanel({ user, onLogout }) {
               <div className="players-row header">
                 <div>Nome</div>
                 <div>Email</div>
+                <div>Tipo</div>
                 <div>Função</div>
                 <div>Squad</div>
                 <div>Ações</div>
@@ -544,6 +561,11 @@ export default function AdminPanel({ user, onLogout }) {
                 <div className="players-row" key={player.id}>
                   <div>{player.nomeCompleto}</div>
                   <div>{player.email}</div>
+                  <div>
+                    <select value={player.tipo} onChange={(e) => handleTipoChange(player.id, e.target.value)}>
+                      {tipos.map(t => <option key={t} value={t}>{t}</option>)}
+                    </select>
+                  </div>
                   <div>
                     <select value={player.funcao} onChange={(e) => handleRoleChange(player.id, e.target.value)}>
                       {roles.map(r => <option key={r} value={r}>{r}</option>)}
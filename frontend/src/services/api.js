@@ -2,8 +2,8 @@ const isDevelopment = process.env.NODE_ENV === 'development';
 const API_BASE = process.env.REACT_APP_API_URL || (isDevelopment ? 'http://localhost:8080/api' : '/api');
 
 const getAuthHeader = () => {
-  const auth = localStorage.getItem('play12_auth');
-  return auth ? { Authorization: `Basic ${auth}` } : {};
+  const token = localStorage.getItem('play12_token');
+  return token ? { Authorization: `Bearer ${token}` } : {};
 };
 
 export async function apiFetch(path, options = {}) {
@@ -51,11 +51,11 @@ export async function apiFetch(path, options = {}) {
   return data;
 }
 
-export function setBasicAuth(email, password) {
-  const token = btoa(`${email}:${password}`);
-  localStorage.setItem('play12_auth', token);
+// Token emitido pelo POST /operadores/login; as rotas de admin exigem ROLE_ADMIN nele
+export function setAuthToken(token) {
+  localStorage.setItem('play12_token', token);
 }
 
-export function clearBasicAuth() {
-  localStorage.removeItem('play12_auth');
+export function clearAuthToken() {
+  localStorage.removeItem('play12_token');
 }
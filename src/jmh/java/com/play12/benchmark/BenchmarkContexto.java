@@ -0,0 +1,115 @@
+package com.play12.benchmark;
+
+import com.play12.Play12Application;
+import com.play12.entity.Game;
+import com.play12.entity.GameOperador;
+import com.play12.entity.Operador;
+import com.play12.entity.Squad;
+import com.play12.enumeracao.TipoJogo;
+import com.play12.repository.GameOperadorRepository;
+import com.play12.repository.GameRepository;
+import com.play12.repository.OperadorRepository;
+import com.play12.repository.SquadRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Contexto Spring sobre H2 em memória com uma massa de dados fixa
+public final class BenchmarkContexto {
+
+    public static final int SQUADS = 10;
+    public static final int OPERADORES = 200;
+    public static final String SENHA = "senha-benchmark";
+
+    private static ConfigurableApplicationContext contexto;
+
+    private BenchmarkContexto() {
+    }
+
+    public static synchronized ConfigurableApplicationContext obter() {
+        if (contexto == null) {
+            contexto = new SpringApplicationBuilder(Play12Application.class)
+                    // Argumentos de linha de comando: precedem o application.properties
+                    .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                            "--spring.datasource.username=sa",
+                            "--spring.datasource.password=",
+                            "--spring.datasource.driver-class-name=org.h2.Driver",
+                            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                            "--spring.jpa.hibernate.ddl-auto=create-drop",
+                            "--spring.jpa.show-sql=false",
+                            // SecurityConfig exige o contexto web; porta aleatória para não conflitar
+                            "--server.port=0",
+                            "--app.security.jwt-secret=benchmark-benchmark-benchmark-benchmark",
+                            "--logging.level.root=WARN");
+            popular(contexto);
+        }
+        return contexto;
+    }
+
+    public static synchronized void encerrar() {
+        if (contexto != null) {
+            contexto.close();
+            contexto = null;
+        }
+    }
+
+    private static void popular(ConfigurableApplicationContext contexto) {
+        SquadRepository squadRepository = contexto.getBean(SquadRepository.class);
+        OperadorRepository operadorRepository = contexto.getBean(OperadorRepository.class);
+        GameRepository gameRepository = contexto.getBean(GameRepository.class);
+        GameOperadorRepository gameOperadorRepository = contexto.getBean(GameOperadorRepository.class);
+
+        List<Squad> squads = new ArrayList<>();
+        for (int i = 0; i < SQUADS; i++) {
+            squads.add(Squad.builder()
+                    .nome("Squad " + i)
+                    .qtdOperadores(OPERADORES / SQUADS)
+                    .jogosJogados(0)
+                    .pontuacaoTotal(0)
+                    .build());
+        }
+        squads = squadRepository.saveAll(squads);
+
+        // Um único hash: BCrypt por operador tornaria a carga lenta sem mudar o que é medido
+        String hash = contexto.getBean(PasswordEncoder.class).encode(SENHA);
+        List<Operador> operadores = new ArrayList<>();
+        for (int i = 0; i < OPERADORES; i++) {
+            operadores.add(Operador.builder()
+                    .email("operador" + i + "@play12.com.br")
+                    .nickname("Operador" + i)
+                    .senha(hash)
+                    .nomeCompleto("Operador Benchmark " + i)
+                    .telefone("11999990000")
+                    .squad(squads.get(i % SQUADS))
+                    .pontos(i * 10)
+                    .build());
+        }
+        operadores = operadorRepository.saveAll(operadores);
+
+        Game game = gameRepository.save(Game.builder()
+                .titulo("Operação Benchmark")
+                .tipo(TipoJogo.values()[0])
+                .data(LocalDate.now().plusDays(7))
+                .horario(LocalTime.of(8, 0))
+                .local("Campo Play12")
+                .confirmados(OPERADORES)
+                .status("Próximo")
+                .build());
+
+        List<GameOperador> elenco = new ArrayList<>();
+        for (int i = 0; i < operadores.size(); i++) {
+            elenco.add(GameOperador.builder()
+                    .game(game)
+                    .operador(operadores.get(i))
+                    .team(i % 2 == 0 ? "BLUFOR" : "OPFOR")
+                    .squad(squads.get(i % SQUADS).getNome())
+                    .build());
+        }
+        gameOperadorRepository.saveAll(elenco);
+    }
+}
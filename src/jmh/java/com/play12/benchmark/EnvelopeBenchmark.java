@@ -0,0 +1,80 @@
+package com.play12.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.play12.dto.ApiResponse;
+import com.play12.dto.OperadorDTO;
+import com.play12.service.OperadorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Envelope das respostas: HashMap por requisição x ApiResponse. Os bytes alocados por operação saem com
+// -prof gc (gc.alloc.rate.norm):
+// mvn -Pbenchmarks test-compile exec:exec -Djmh.args="EnvelopeBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopeBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<OperadorDTO> operadores;
+    private OperadorDTO operador;
+
+    @Setup
+    public void setup() {
+        ConfigurableApplicationContext contexto = BenchmarkContexto.obter();
+        objectMapper = contexto.getBean(ObjectMapper.class);
+        operadores = contexto.getBean(OperadorService.class).listarTodos();
+        operador = operadores.get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkContexto.encerrar();
+    }
+
+    @Benchmark
+    public byte[] listagemMapa() throws JsonProcessingException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", operadores);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] listagemApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.ok(operadores));
+    }
+
+    @Benchmark
+    public byte[] atualizacaoMapa() throws JsonProcessingException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Operador atualizado com sucesso!");
+        response.put("data", operador);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] atualizacaoApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.ok("Operador atualizado com sucesso!", operador));
+    }
+}
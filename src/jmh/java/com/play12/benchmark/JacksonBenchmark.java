@@ -0,0 +1,71 @@
+package com.play12.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.play12.dto.GameDTO;
+import com.play12.dto.GameOperadorDTO;
+import com.play12.dto.OperadorDTO;
+import com.play12.service.GameService;
+import com.play12.service.OperadorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serialização das respostas das listagens com o ObjectMapper configurado em JacksonConfig
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<OperadorDTO> operadores;
+    private List<GameDTO> jogos;
+    private List<GameOperadorDTO> elenco;
+
+    @Setup
+    public void setup() {
+        ConfigurableApplicationContext contexto = BenchmarkContexto.obter();
+        objectMapper = contexto.getBean(ObjectMapper.class);
+
+        OperadorService operadorService = contexto.getBean(OperadorService.class);
+        GameService gameService = contexto.getBean(GameService.class);
+        operadores = operadorService.listarTodos();
+        jogos = gameService.listar();
+        elenco = gameService.listarOperadoresDoJogo(jogos.get(0).getId());
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkContexto.encerrar();
+    }
+
+    @Benchmark
+    public byte[] operadores() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(operadores);
+    }
+
+    @Benchmark
+    public byte[] jogos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(jogos);
+    }
+
+    @Benchmark
+    public byte[] elencoDoJogo() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(elenco);
+    }
+}
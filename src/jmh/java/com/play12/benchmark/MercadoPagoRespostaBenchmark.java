@@ -0,0 +1,80 @@
+package com.play12.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.play12.config.JacksonConfig;
+import com.play12.service.MercadoPagoClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Leitura da resposta de /checkout/preferences: String + árvore JsonNode (como era) x bytes direto para o record.
+// mvn -Pbenchmarks test-compile exec:exec -Djmh.args="MercadoPagoRespostaBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MercadoPagoRespostaBenchmark {
+
+    // Formato da resposta real, com os campos que a aplicação ignora
+    private static final String PREFERENCIA = """
+            {"additional_info":"","auto_return":"approved","back_urls":{"failure":"","pending":"","success":""},
+            "binary_mode":false,"client_id":"6295877106812064","collector_id":202809963,"coupon_code":null,
+            "coupon_labels":null,"date_created":"2026-10-18T10:15:10.490-03:00","date_of_expiration":null,
+            "expiration_date_from":null,"expiration_date_to":null,"expires":false,
+            "external_reference":"PLAY12_5a825620-ae6c-4879-b57e-62cc8a4752d6",
+            "id":"202809963-920c288b-4ebb-40be-966f-700250fa5370",
+            "init_point":"https://www.mercadopago.com.br/checkout/v1/redirect?pref_id=202809963-920c288b-4ebb-40be-966f-700250fa5370",
+            "internal_metadata":null,"items":[{"id":"","category_id":"","currency_id":"BRL","description":"",
+            "title":"Inscrição Operação Perf","quantity":1,"unit_price":25.5}],"marketplace":"NONE",
+            "marketplace_fee":0,"metadata":{},"notification_url":null,"operation_type":"regular_payment",
+            "payer":{"phone":{"area_code":"","number":""},"address":{"zip_code":"","street_name":"","street_number":null},
+            "email":"operador@play12.com","identification":{"number":"","type":""},"name":"","surname":"",
+            "date_created":null,"last_purchase":null},"payment_methods":{"default_card_id":null,
+            "default_payment_method_id":null,"excluded_payment_methods":[{"id":""}],"excluded_payment_types":[{"id":""}],
+            "installments":null,"default_installments":null},"processing_modes":null,"product_id":null,
+            "redirect_urls":{"failure":"","pending":"","success":""},
+            "sandbox_init_point":"https://sandbox.mercadopago.com.br/checkout/v1/redirect?pref_id=202809963-920c288b-4ebb-40be-966f-700250fa5370",
+            "site_id":"MLB","shipments":{"default_shipping_method":null,"receiver_address":{"zip_code":"",
+            "street_name":"","street_number":null,"floor":"","apartment":"","city_name":null,"state_name":null,
+            "country_name":null}},"total_amount":null,"last_updated":null,
+            "point_of_interaction":{"type":"PIX","transaction_data":{"qr_code":"00020126360014br.gov.bcb.pix0114pix@play12.com5204000053039865802BR5906PLAY126009SAO PAULO62070503***6304ABCD",
+            "qr_code_base64":"iVBORw0KGgoAAAANSUhEUgAABWQAAAVkAQAAAAB79iscAAAOeUlEQVR42uzdQZLbqBYGYFGa9pALQJU8",
+            "ticket_url":"https://www.mercadopago.com.br/payments/123456789/ticket"}}}
+            """;
+
+    private ObjectMapper objectMapper;
+    private byte[] corpo;
+
+    @Setup
+    public void setup() {
+        objectMapper = new JacksonConfig().objectMapper();
+        corpo = PREFERENCIA.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String arvore() throws IOException {
+        JsonNode resposta = objectMapper.readTree(new String(corpo, StandardCharsets.UTF_8));
+        return resposta.get("id").asText() + resposta.get("init_point").asText()
+                + resposta.get("point_of_interaction").get("transaction_data").get("qr_code").asText();
+    }
+
+    @Benchmark
+    public String record() throws IOException {
+        MercadoPagoClient.Preferencia resposta = objectMapper.readValue(corpo, MercadoPagoClient.Preferencia.class);
+        return resposta.id() + resposta.initPoint() + resposta.qrCode();
+    }
+}
@@ -0,0 +1,47 @@
+package com.play12.benchmark;
+
+import com.play12.service.PixBrCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Geração do payload PIX; rodar com -prof gc para ver a alocação por operação
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PixBrCodeBenchmark {
+
+    private PixBrCode brCode;
+    private BigDecimal valor;
+    private String txid;
+
+    @Setup
+    public void setup() {
+        brCode = new PixBrCode("pagamentos@play12.com.br", "Play12 MilSim", "São Paulo");
+        valor = new BigDecimal("149.90");
+        txid = "PLAY12a3f1c2d4e5b6a7980";
+    }
+
+    @Benchmark
+    public String gerarComTxid() {
+        return brCode.gerar(valor, txid);
+    }
+
+    @Benchmark
+    public String gerarEstatico() {
+        return brCode.gerar(valor, null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.play12.benchmark;
+
+import com.play12.entity.Operador;
+import com.play12.repository.OperadorRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo do BCrypt no login, com o PasswordEncoder configurado em SecurityConfig e um hash gravado no H2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SenhaBenchmark {
+
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        ConfigurableApplicationContext contexto = BenchmarkContexto.obter();
+        passwordEncoder = contexto.getBean(PasswordEncoder.class);
+        Operador operador = contexto.getBean(OperadorRepository.class).findAll().get(0);
+        hash = operador.getSenha();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkContexto.encerrar();
+    }
+
+    @Benchmark
+    public boolean matchesSenhaCorreta() {
+        return passwordEncoder.matches(BenchmarkContexto.SENHA, hash);
+    }
+
+    @Benchmark
+    public boolean matchesSenhaErrada() {
+        return passwordEncoder.matches("senha-errada", hash);
+    }
+}
@@ -0,0 +1,346 @@
+package com.play12.perf;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Cenário de carga contra a aplicação no perfil perf: tempestade de cadastros, inscrições em jogo com vagas
+// limitadas, listagem de elencos e checkout PIX.
+// Cada cenário roda por um tempo fixo com N usuários concorrentes (threads virtuais, sem pausa entre requisições)
+// e gera uma linha de relatório com vazão e percentis; o CSV acumula as execuções para comparar builds.
+//
+// 1. java -jar target/play12-milsim-1.0.0.jar --spring.profiles.active=perf
+// 2. mvn -Pbenchmarks test-compile exec:exec -Dbenchmark.main=com.play12.perf.CenarioCarga \
+//        -Dbenchmark.args="--url=http://localhost:8080 --duracao=30 --concorrencia=32 --rotulo=$(git rev-parse --short HEAD)"
+//
+// Inscrição: antes da medição faz login de --inscritos operadores perf (perf1, perf2...) e, com o token do perf0,
+// cria jogos com --vagas vagas. Cada operador entra uma vez por jogo; os excedentes vão para a lista de espera.
+//
+// Threads de plataforma x virtuais: suba a aplicação com VIRTUAL_THREADS=false e depois true e rode, em cada uma,
+// --cenarios=inscricao,checkout --concorrencia=256 --rotulo=plataforma (ou virtual); o CSV fica com as duas.
+public final class CenarioCarga {
+
+    private static final Pattern ID_JOGO = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String SENHA_PERF = "perf-senha";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String url;
+    private final Duration duracao;
+    private final int concorrencia;
+
+    private CenarioCarga(String url, Duration duracao, int concorrencia) {
+        this.url = url;
+        this.duracao = duracao;
+        this.concorrencia = concorrencia;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes = new LinkedHashMap<>();
+        for (String arg : args) {
+            String[] partes = arg.replaceFirst("^--", "").split("=", 2);
+            opcoes.put(partes[0], partes.length > 1 ? partes[1] : "true");
+        }
+        String url = opcoes.getOrDefault("url", "http://localhost:8080");
+        Duration duracao = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("duracao", "30")));
+        int concorrencia = Integer.parseInt(opcoes.getOrDefault("concorrencia", "32"));
+        String rotulo = opcoes.getOrDefault("rotulo", "local");
+        Path saida = Path.of(opcoes.getOrDefault("saida", "target/carga.csv"));
+
+        CenarioCarga carga = new CenarioCarga(url, duracao, concorrencia);
+        List<Long> jogos = carga.idsDosJogos();
+        if (jogos.isEmpty()) {
+            throw new IllegalStateException("Nenhum jogo em " + url + "/api/jogos; a aplicação está no perfil perf?");
+        }
+
+        AtomicLong sequencia = new AtomicLong(System.currentTimeMillis());
+        Map<String, Supplier<Requisicao>> cenarios = new LinkedHashMap<>();
+        cenarios.put("cadastro", () -> {
+            long n = sequencia.incrementAndGet();
+            return post("/api/operadores/cadastro", """
+                    {"email":"carga%d@play12.com.br","nickname":"Carga%d","senha":"carga123","nomeCompleto":"Operador Carga %d"}"""
+                    .formatted(n, n, n));
+        });
+        Inscricoes inscricoes = carga.new Inscricoes(
+                Integer.parseInt(opcoes.getOrDefault("inscritos", "500")),
+                Integer.parseInt(opcoes.getOrDefault("vagas", "50")));
+        cenarios.put("inscricao", inscricoes::proxima);
+        cenarios.put("elenco", () ->
+                get("/api/jogos/" + jogos.get(ThreadLocalRandom.current().nextInt(jogos.size())) + "/operadores"));
+        cenarios.put("checkout", () -> post("/api/payments/pix/create", """
+                {"payerEmail":"carga@play12.com.br","payerName":"Operador Carga","amount":149.90,"quantity":1}"""));
+
+        List<Resultado> resultados = new ArrayList<>();
+        for (String cenario : opcoes.getOrDefault("cenarios", String.join(",", cenarios.keySet())).split(",")) {
+            Supplier<Requisicao> gerador = cenarios.get(cenario.trim());
+            if (gerador == null) {
+                throw new IllegalArgumentException("Cenário desconhecido: " + cenario + "; use " + cenarios.keySet());
+            }
+            if ("inscricao".equals(cenario.trim())) {
+                inscricoes.preparar();
+            }
+            resultados.add(carga.executar(cenario.trim(), gerador));
+        }
+
+        imprimir(resultados);
+        gravar(saida, rotulo, carga, resultados);
+    }
+
+    private record Requisicao(String metodo, String caminho, String corpo, String token) {
+    }
+
+    private static Requisicao get(String caminho) {
+        return new Requisicao("GET", caminho, null, null);
+    }
+
+    private static Requisicao post(String caminho, String corpo) {
+        return new Requisicao("POST", caminho, corpo, null);
+    }
+
+    // Inscrição pelo próprio operador (token Bearer) em jogos com vagas limitadas. Quando todos os tokens já
+    // passaram pelo jogo atual, o próximo jogo é criado ali mesmo, fora da latência medida em executar.
+    private final class Inscricoes {
+
+        private final int inscritos;
+        private final int vagas;
+        private final List<String> tokens = new ArrayList<>();
+        private final List<Long> jogos = new CopyOnWriteArrayList<>();
+        private final ReentrantLock criacao = new ReentrantLock();
+        private final AtomicLong sequencia = new AtomicLong();
+        private String tokenAdmin;
+
+        private Inscricoes(int inscritos, int vagas) {
+            this.inscritos = inscritos;
+            this.vagas = vagas;
+        }
+
+        void preparar() throws Exception {
+            System.out.printf("inscricao: login de %d operadores perf, jogos com %d vagas%n", inscritos, vagas);
+            tokenAdmin = login(0);
+            // Poucos logins simultâneos: o BCrypt roda num pool pequeno com fila limitada
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                List<Future<String>> logins = new ArrayList<>();
+                for (int i = 1; i <= inscritos; i++) {
+                    int operador = i;
+                    logins.add(executor.submit(() -> login(operador)));
+                }
+                for (Future<String> login : logins) {
+                    tokens.add(login.get());
+                }
+            }
+        }
+
+        Requisicao proxima() {
+            long n = sequencia.getAndIncrement();
+            return new Requisicao("POST", "/api/jogos/" + jogo((int) (n / tokens.size())) + "/inscricao",
+                    "{\"team\":\"BLUFOR\"}", tokens.get((int) (n % tokens.size())));
+        }
+
+        private Long jogo(int rodada) {
+            if (rodada >= jogos.size()) {
+                criacao.lock();
+                try {
+                    while (rodada >= jogos.size()) {
+                        jogos.add(criarJogo(jogos.size()));
+                    }
+                } finally {
+                    criacao.unlock();
+                }
+            }
+            return jogos.get(rodada);
+        }
+
+        private Long criarJogo(int numero) {
+            String corpo = """
+                    {"titulo":"Carga Inscrição %d","tipo":"MILSIM","data":"%s","horario":"08:00","local":"Campo Carga","capacidade":%d}"""
+                    .formatted(numero, LocalDate.now().plusDays(30), vagas);
+            Matcher matcher = ID_JOGO.matcher(enviarParaTexto(new Requisicao("POST", "/api/jogos", corpo, tokenAdmin)));
+            if (!matcher.find()) {
+                throw new IllegalStateException("Não foi possível criar o jogo da inscrição; o perf0 é ADMIN?");
+            }
+            return Long.parseLong(matcher.group(1));
+        }
+
+        private String login(int operador) {
+            String corpo = """
+                    {"email":"perf%d@play12.com.br","senha":"%s"}""".formatted(operador, SENHA_PERF);
+            Matcher matcher = TOKEN.matcher(enviarParaTexto(new Requisicao("POST", "/api/operadores/login", corpo, null)));
+            if (!matcher.find()) {
+                throw new IllegalStateException("Login do perf" + operador + " falhou; a massa tem operadores suficientes?");
+            }
+            return matcher.group(1);
+        }
+    }
+
+    private record Resultado(String cenario, long ok, long erros, double segundos, long[] latenciasNanos) {
+
+        double vazao() {
+            return ok / segundos;
+        }
+
+        double percentilMs(double percentil) {
+            if (latenciasNanos.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(percentil / 100.0 * latenciasNanos.length) - 1;
+            return latenciasNanos[Math.max(0, Math.min(indice, latenciasNanos.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    private Resultado executar(String cenario, Supplier<Requisicao> gerador) throws Exception {
+        System.out.printf("%s: %d usuários por %ds%n", cenario, concorrencia, duracao.toSeconds());
+        long fim = System.nanoTime() + duracao.toNanos();
+        AtomicLong erros = new AtomicLong();
+
+        List<Future<long[]>> usuarios = new ArrayList<>();
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < concorrencia; u++) {
+                usuarios.add(executor.submit(() -> {
+                    long[] latencias = new long[1024];
+                    int total = 0;
+                    while (System.nanoTime() < fim) {
+                        Requisicao requisicao = gerador.get();
+                        long antes = System.nanoTime();
+                        boolean sucesso = enviar(requisicao);
+                        long latencia = System.nanoTime() - antes;
+                        if (!sucesso) {
+                            erros.incrementAndGet();
+                            continue;
+                        }
+                        if (total == latencias.length) {
+                            latencias = Arrays.copyOf(latencias, total * 2);
+                        }
+                        latencias[total++] = latencia;
+                    }
+                    return Arrays.copyOf(latencias, total);
+                }));
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        long[] todas = new long[0];
+        for (Future<long[]> usuario : usuarios) {
+            long[] parte = usuario.get();
+            int anterior = todas.length;
+            todas = Arrays.copyOf(todas, anterior + parte.length);
+            System.arraycopy(parte, 0, todas, anterior, parte.length);
+        }
+        Arrays.sort(todas);
+        return new Resultado(cenario, todas.length, erros.get(), segundos, todas);
+    }
+
+    private HttpRequest montar(Requisicao requisicao) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url + requisicao.caminho()))
+                .timeout(Duration.ofSeconds(30));
+        if (requisicao.token() != null) {
+            builder.header("Authorization", "Bearer " + requisicao.token());
+        }
+        if (requisicao.corpo() != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(requisicao.metodo(), HttpRequest.BodyPublishers.ofString(requisicao.corpo()));
+        } else {
+            builder.method(requisicao.metodo(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    // Preparação dos cenários: falha logo em vez de contar erro
+    private String enviarParaTexto(Requisicao requisicao) {
+        try {
+            return httpClient.send(montar(requisicao), HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean enviar(Requisicao requisicao) {
+        try {
+            HttpResponse<Void> resposta = httpClient.send(montar(requisicao), HttpResponse.BodyHandlers.discarding());
+            return resposta.statusCode() >= 200 && resposta.statusCode() < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<Long> idsDosJogos() throws IOException, InterruptedException {
+        HttpResponse<String> resposta = httpClient.send(
+                HttpRequest.newBuilder(URI.create(url + "/api/jogos")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID_JOGO.matcher(resposta.body());
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static void imprimir(List<Resultado> resultados) {
+        System.out.printf("%n%-10s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "cenario", "ok", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Resultado r : resultados) {
+            System.out.printf("%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    r.cenario(), r.ok(), r.erros(), r.vazao(),
+                    r.percentilMs(50), r.percentilMs(90), r.percentilMs(99), r.percentilMs(99.9), r.percentilMs(100));
+        }
+    }
+
+    private static void gravar(Path saida, String rotulo, CenarioCarga carga, List<Resultado> resultados) {
+        try {
+            if (saida.getParent() != null) {
+                Files.createDirectories(saida.getParent());
+            }
+            boolean novo = Files.notExists(saida);
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(saida,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                if (novo) {
+                    writer.println("data,rotulo,cenario,concorrencia,duracao_s,ok,erros,req_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+                }
+                String data = LocalDateTime.now().withNano(0).toString();
+                for (Resultado r : resultados) {
+                    writer.printf(Locale.ROOT, "%s,%s,%s,%d,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                            data, rotulo, r.cenario(), carga.concorrencia, carga.duracao.toSeconds(), r.ok(), r.erros(),
+                            r.vazao(), r.percentilMs(50), r.percentilMs(90), r.percentilMs(99),
+                            r.percentilMs(99.9), r.percentilMs(100));
+                }
+            }
+            System.out.println("\nRelatório acrescentado em " + saida.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
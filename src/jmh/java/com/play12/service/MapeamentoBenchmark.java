@@ -0,0 +1,105 @@
+package com.play12.service;
+
+import com.play12.benchmark.BenchmarkContexto;
+import com.play12.dto.GameOperadorDTO;
+import com.play12.dto.OperadorDTO;
+import com.play12.dto.PaymentRequestDTO;
+import com.play12.entity.GameOperador;
+import com.play12.entity.Operador;
+import com.play12.repository.GameOperadorRepository;
+import com.play12.repository.OperadorRepository;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Mapeamentos entidade -> DTO das listagens mais chamadas pelo frontend, sobre entidades carregadas do H2.
+// No pacote service para alcançar os métodos package-private.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+    private GameService gameService;
+    private OperadorService operadorService;
+    private PaymentService paymentService;
+
+    private List<GameOperador> elenco;
+    private List<Operador> operadores;
+    private PaymentRequestDTO pagamento;
+
+    @Setup
+    public void setup() {
+        ConfigurableApplicationContext contexto = BenchmarkContexto.obter();
+        // Instâncias sem o proxy transacional: no serviço os mapeamentos são chamados internamente,
+        // e pelo proxy cada chamada abriria uma transação
+        gameService = semProxy(contexto.getBean(GameService.class));
+        operadorService = semProxy(contexto.getBean(OperadorService.class));
+        paymentService = semProxy(contexto.getBean(PaymentService.class));
+
+        operadores = contexto.getBean(OperadorRepository.class).findAllComSquad();
+
+        // Carrega o elenco com os operadores inicializados, como no caminho do serviço
+        GameOperadorRepository gameOperadorRepository = contexto.getBean(GameOperadorRepository.class);
+        elenco = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class))
+                .execute(status -> {
+                    List<GameOperador> todos = gameOperadorRepository.findAll();
+                    todos.forEach(go -> Hibernate.initialize(go.getOperador()));
+                    return todos;
+                });
+
+        pagamento = new PaymentRequestDTO();
+        pagamento.setPayerEmail("operador@play12.com.br");
+        pagamento.setPayerName("Operador Benchmark");
+        pagamento.setAmount(new BigDecimal("149.90"));
+        pagamento.setQuantity(1);
+        pagamento.setDescription("Inscrição Operação Benchmark");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T semProxy(T bean) {
+        Object alvo = AopProxyUtils.getSingletonTarget(bean);
+        return alvo != null ? (T) alvo : bean;
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkContexto.encerrar();
+    }
+
+    @Benchmark
+    public List<GameOperadorDTO> mapToGameOperadorDTO() {
+        return elenco.stream().map(gameService::mapToGameOperadorDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<OperadorDTO> mapToOperadorDTO() {
+        return operadores.stream().map(operadorService::mapToDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<String, Object> preparePaymentData() {
+        return paymentService.preparePaymentData(pagamento, null);
+    }
+}
@@ -1,19 +1,39 @@
 package com.play12;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Servir arquivos estáticos do frontend
+        // js/css/media do build do React têm o hash do conteúdo no nome: um arquivo novo é sempre uma URL nova.
+        // EncodedResourceResolver entrega o .br/.gz gerado no build (scripts/precomprimir.js) quando o cliente aceita
+        registry.addResourceHandler("/static/**")
+                .addResourceLocations("classpath:/static/static/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
+        // Imagens sem hash no nome: mantêm a hora de cache de antes
+        registry.addResourceHandler("/images/**")
+                .addResourceLocations("classpath:/static/images/")
+                .setCachePeriod(3600);
+
+        // Servir arquivos estáticos do frontend. O index.html aponta para os bundles do deploy atual:
+        // sempre revalidado (Last-Modified), para não referenciar um hash que já saiu do servidor
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .setCachePeriod(3600);
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
     }
     
     @Override
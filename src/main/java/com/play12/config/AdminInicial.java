@@ -0,0 +1,40 @@
+package com.play12.config;
+
+import com.play12.enumeracao.TipoOperador;
+import com.play12.repository.OperadorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// O cadastro público só cria JOGADOR e a promoção (PUT /api/operadores/{id}/admin) exige um ADMIN.
+// O primeiro ADMIN sai daqui: a conta com o email de app.security.admin-email, cadastrada normalmente,
+// é promovida na subida da aplicação.
+@Slf4j
+@Component
+public class AdminInicial {
+
+	private final OperadorRepository operadorRepository;
+	private final String email;
+
+	public AdminInicial(OperadorRepository operadorRepository,
+						@Value("${app.security.admin-email:}") String email) {
+		this.operadorRepository = operadorRepository;
+		this.email = email;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void promover() {
+		if (email.isBlank()) {
+			return;
+		}
+		operadorRepository.findByEmail(email).ifPresentOrElse(operador -> {
+			if (operador.getTipo() != TipoOperador.ADMIN) {
+				operador.setTipo(TipoOperador.ADMIN);
+				operadorRepository.save(operador);
+				log.info("Operador {} promovido a ADMIN (app.security.admin-email)", operador.getId());
+			}
+		}, () -> log.warn("app.security.admin-email sem cadastro: cadastre a conta e reinicie para promovê-la"));
+	}
+}
@@ -0,0 +1,48 @@
+package com.play12.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String JOGOS = "jogos";
+	public static final String JOGOS_PROXIMOS = "jogosProximos";
+	public static final String PRODUTOS = "produtos";
+	public static final String SQUADS = "squads";
+	public static final String FOTOS = "fotos";
+
+	@Value("${app.cache.max-size:500}")
+	private Long maxSize;
+
+	@Value("${app.cache.ttl-seconds:60}")
+	private Long ttlSeconds;
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager manager = new CaffeineCacheManager() {
+			@Override
+			protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+				return new CacheVersionado(name, cache, isAllowNullValues());
+			}
+		};
+		manager.setCacheNames(List.of(JOGOS, JOGOS_PROXIMOS, PRODUTOS, SQUADS, FOTOS));
+		manager.setCaffeine(Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats());
+		// Evictions só depois do commit, para não recarregar o cache com dados ainda não gravados
+		return new TransactionAwareCacheManagerProxy(manager);
+	}
+}
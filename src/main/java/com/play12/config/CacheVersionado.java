@@ -0,0 +1,77 @@
+package com.play12.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cache Caffeine com um contador de versão: cada carga, put ou eviction avança a versão, sempre depois
+// da alteração. Usado pelo CatalogoEtag para responder If-None-Match sem consultar o banco.
+public class CacheVersionado extends CaffeineCache {
+
+	private final AtomicLong versao = new AtomicLong();
+
+	public CacheVersionado(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+						   boolean allowNullValues) {
+		super(name, cache, allowNullValues);
+	}
+
+	public long getVersao() {
+		return versao.get();
+	}
+
+	// Consulta sem contar hit/miss nas estatísticas do cache
+	public boolean contem(Object chave) {
+		return getNativeCache().policy().getIfPresentQuietly(chave) != null;
+	}
+
+	@Override
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return super.get(key, () -> {
+			try {
+				return valueLoader.call();
+			} finally {
+				versao.incrementAndGet();
+			}
+		});
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		super.put(key, value);
+		versao.incrementAndGet();
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existente = super.putIfAbsent(key, value);
+		versao.incrementAndGet();
+		return existente;
+	}
+
+	@Override
+	public void evict(Object key) {
+		super.evict(key);
+		versao.incrementAndGet();
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean removido = super.evictIfPresent(key);
+		versao.incrementAndGet();
+		return removido;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		versao.incrementAndGet();
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean removido = super.invalidate();
+		versao.incrementAndGet();
+		return removido;
+	}
+}
@@ -0,0 +1,60 @@
+package com.play12.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// ETag das listagens do catálogo (jogos, produtos, squads, fotos), derivado da versão do cache da listagem.
+// Com o cache carregado e o If-None-Match igual à versão atual, a resposta é 304 sem consulta nem serialização.
+// Vale para métodos @Cacheable sem parâmetros, cuja chave é SimpleKey.EMPTY.
+@Component
+public class CatalogoEtag {
+
+	private final CacheManager cacheManager;
+	private final Map<String, CacheVersionado> caches = new ConcurrentHashMap<>();
+
+	// As versões recomeçam a cada execução: o prefixo impede que um ETag antigo coincida depois de um restart
+	private final String execucao = Long.toString(System.currentTimeMillis(), 36);
+
+	public CatalogoEtag(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	public <T> ResponseEntity<T> responder(String nomeCache, WebRequest request, Supplier<T> consulta) {
+		CacheVersionado cache = caches.computeIfAbsent(nomeCache, this::versionado);
+		// Versão lida antes da consulta: se o cache mudar no meio, o ETag fica velho e o próximo GET recebe o corpo
+		long versao = cache.getVersao();
+		if (!cache.contem(SimpleKey.EMPTY)) {
+			// Cache vazio ou expirado: a versão ainda não descreve o que a consulta vai devolver
+			return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(consulta.get());
+		}
+
+		// Fraco: o mesmo conteúdo vai com ou sem gzip, e o Tomcat não comprime respostas com ETag forte
+		String etag = "W/\"" + nomeCache + "-" + execucao + "-" + versao + "\"";
+		if (request.checkNotModified(etag)) {
+			// 304 e cabeçalho ETag já escritos na resposta
+			return null;
+		}
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(consulta.get());
+	}
+
+	private CacheVersionado versionado(String nomeCache) {
+		Cache cache = cacheManager.getCache(nomeCache);
+		if (cache instanceof TransactionAwareCacheDecorator decorator) {
+			cache = decorator.getTargetCache();
+		}
+		if (!(cache instanceof CacheVersionado versionado)) {
+			throw new IllegalStateException("Cache sem versão: " + nomeCache);
+		}
+		return versionado;
+	}
+}
@@ -1,40 +1,58 @@
 package com.play12.config;
 
+import com.play12.dto.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.format.DateTimeParseException;
-import java.util.HashMap;
-import java.util.Map;
 
+// Erros no mesmo envelope das respostas: {"success": false, "message": ...}
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", ex.getMessage());
-        error.put("status", "400");
-        return ResponseEntity.badRequest().body(error);
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(ApiResponse.erro(ex.getMessage()));
+    }
+
+    // @Valid nos DTOs: primeira mensagem de validação
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleValidation(MethodArgumentNotValidException ex) {
+        String mensagem = ex.getBindingResult().getAllErrors().isEmpty()
+                ? "Requisição inválida"
+                : ex.getBindingResult().getAllErrors().get(0).getDefaultMessage();
+        return ResponseEntity.badRequest().body(ApiResponse.erro(mensagem));
     }
 
     @ExceptionHandler(DateTimeParseException.class)
-    public ResponseEntity<Map<String, String>> handleDateTimeParse(DateTimeParseException ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", "Formato de data/hora inválido. Use: YYYY-MM-DD para data e HH:mm para horário");
-        error.put("details", ex.getMessage());
-        error.put("status", "400");
-        return ResponseEntity.badRequest().body(error);
+    public ResponseEntity<ApiResponse<Void>> handleDateTimeParse(DateTimeParseException ex) {
+        return ResponseEntity.badRequest().body(ApiResponse.erro(
+                "Formato de data/hora inválido. Use: YYYY-MM-DD para data e HH:mm para horário"));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.erro(
+                "O registro foi alterado por outra requisição. Recarregue e tente novamente"));
+    }
+
+    // @PreAuthorize negado (AuthorizationDeniedException) chega aqui antes do filtro de segurança
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccessDenied(AccessDeniedException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.erro("Acesso negado"));
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, String>> handleGeneralException(Exception ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", "Erro interno do servidor");
-        error.put("message", ex.getMessage());
-        error.put("status", "500");
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    public ResponseEntity<ApiResponse<Void>> handleGeneralException(Exception ex) {
+        log.error("Erro não tratado", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.erro("Erro interno do servidor"));
     }
 }
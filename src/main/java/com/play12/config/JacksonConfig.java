@@ -12,7 +12,10 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
+// Único ObjectMapper da aplicação: MVC, exportações, tokens e as chamadas ao Mercado Pago usam este bean.
+// Não crie outro com new ObjectMapper(): cada instância refaz o cache de (de)serializadores e perde a configuração abaixo.
 @Configuration
 public class JacksonConfig {
 
@@ -32,8 +35,10 @@ public class JacksonConfig {
         
         mapper.registerModule(javaTimeModule);
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // Getters, setters e construtores chamados por lambdas geradas (LambdaMetafactory) em vez de reflexão
+        mapper.registerModule(new BlackbirdModule());
         
         return mapper;
     }
 }
-
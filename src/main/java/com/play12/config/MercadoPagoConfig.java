@@ -15,6 +15,19 @@ public class MercadoPagoConfig {
     @Value("${app.pix.expiration-minutes:30}")
     private Integer pixExpirationMinutes;
 
+    @Value("${mercadopago.base-url:https://api.mercadopago.com}")
+    private String baseUrl;
+
+    @Value("${mercadopago.connect-timeout-ms:2000}")
+    private Integer connectTimeoutMs;
+
+    @Value("${mercadopago.request-timeout-ms:8000}")
+    private Integer requestTimeoutMs;
+
+    // Bulkhead: máximo de chamadas simultâneas ao Mercado Pago; sem vaga, a chamada é recusada na hora
+    @Value("${mercadopago.max-concurrent-requests:20}")
+    private Integer maxConcurrentRequests;
+
     public String getAccessToken() {
         return accessToken;
     }
@@ -26,4 +39,20 @@ public class MercadoPagoConfig {
     public Integer getPixExpirationMinutes() {
         return pixExpirationMinutes;
     }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Integer getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public Integer getRequestTimeoutMs() {
+        return requestTimeoutMs;
+    }
+
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
 }
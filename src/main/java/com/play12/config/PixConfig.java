@@ -15,6 +15,9 @@ public class PixConfig {
     @Value("${pix.merchant-name:Play12}")
     private String merchantName;
 
+    @Value("${pix.merchant-city:SAO PAULO}")
+    private String merchantCity;
+
     @Value("${pix.qr-code-size:300}")
     private Integer qrCodeSize;
 
@@ -25,7 +28,7 @@ public class PixConfig {
     private Boolean enableMock;
 
     @Value("${pix.bank-integration:MOCK}")
-    private String bankIntegration; // MOCK, ITAU, BRADESCO, SANTANDER, CAIXA, BB
+    private String bankIntegration; // MERCADOPAGO, LOCAL, MOCK, ITAU, BRADESCO, SANTANDER, CAIXA, BB
 
     public String getMerchantKey() {
         return merchantKey;
@@ -39,6 +42,10 @@ public class PixConfig {
         return merchantName;
     }
 
+    public String getMerchantCity() {
+        return merchantCity;
+    }
+
     public Integer getQrCodeSize() {
         return qrCodeSize;
     }
@@ -54,4 +61,9 @@ public class PixConfig {
     public String getBankIntegration() {
         return bankIntegration;
     }
+
+    // LOCAL e MOCK geram o BR Code na própria aplicação, sem chamada externa
+    public boolean isGeracaoLocal() {
+        return "LOCAL".equalsIgnoreCase(bankIntegration) || "MOCK".equalsIgnoreCase(bankIntegration);
+    }
 }
@@ -1,13 +1,21 @@
 package com.play12.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.play12.security.TokenAuthenticationFilter;
+import com.play12.security.TokenService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,18 +24,39 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+	private final TokenService tokenService;
+
 	@Bean
-public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-    http
-        .csrf(csrf -> csrf.disable())
-        .authorizeHttpRequests(auth -> auth
-            .anyRequest().permitAll() // Isso libera TUDO para o cliente avaliar
-        );
-    return http.build();
-}
+	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+		http
+			.csrf(csrf -> csrf.disable())
+			// Identidade vem do token assinado a cada requisição: sem sessão HTTP
+			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			.addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+			.authorizeHttpRequests(auth -> auth
+				// Actuator: health aberto para o balanceador; métricas, caches (inclusive DELETE) e prometheus só ADMIN
+				.requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+				.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+				// Painel, exportações e mutações de cadastro, placar e elenco: só ADMIN (ROLE_ vem do token)
+				.requestMatchers("/api/admin/**").hasRole("ADMIN")
+				.requestMatchers(HttpMethod.PUT, "/api/operadores/*/admin", "/api/operadores/*/pontos",
+						"/api/operadores/*/squad/*").hasRole("ADMIN")
+				.requestMatchers(HttpMethod.DELETE, "/api/operadores/*").hasRole("ADMIN")
+				// Inscrição em jogo: o operador vem do token, então exige um
+				.requestMatchers(HttpMethod.POST, "/api/jogos/*/inscricao").authenticated()
+				.requestMatchers(HttpMethod.POST, "/api/jogos", "/api/jogos/*/operadores", "/api/jogos/*/pontuacao",
+						"/api/produtos", "/api/squads", "/api/comunidade/fotos").hasRole("ADMIN")
+				.requestMatchers(HttpMethod.PUT, "/api/jogos/*", "/api/produtos/*", "/api/squads/*").hasRole("ADMIN")
+				.requestMatchers(HttpMethod.DELETE, "/api/jogos/*", "/api/jogos/*/operadores/*", "/api/produtos/*",
+						"/api/squads/*", "/api/comunidade/fotos/*").hasRole("ADMIN")
+				.anyRequest().permitAll() // Isso libera TUDO para o cliente avaliar
+			);
+		return http.build();
+	}
 
+	// Custo do BCrypt (log2 das rodadas). Hashes com custo menor são refeitos no login (LoginService)
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt-strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 }
@@ -0,0 +1,50 @@
+package com.play12.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+// game_operadores passou de IDENTITY para a sequence game_operadores_seq. Num banco antigo o ddl-auto=update
+// cria a sequence em 1, abaixo dos ids já gravados, e o primeiro insert em lote daria chave duplicada.
+// Na subida, antes do Tomcat aceitar requisições, a sequence é levada até max(id) quando está atrás.
+@Slf4j
+@Component
+public class SequenciaGameOperador implements SmartInitializingSingleton {
+
+	private final DataSource dataSource;
+
+	public SequenciaGameOperador(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!postgres()) {
+			// H2 do perfil perf e dos testes: schema criado do zero, sequence já alinhada
+			return;
+		}
+		// Com allocationSize = 50 o Hibernate usa o bloco (valor - 49 .. valor): o próximo nextval
+		// depois do setval(max) começa em max + 1
+		List<Long> ajustado = new JdbcTemplate(dataSource).queryForList(
+				"SELECT setval('game_operadores_seq', t.maximo) FROM (SELECT MAX(id) AS maximo FROM game_operadores) t "
+						+ "WHERE t.maximo IS NOT NULL AND t.maximo >= (SELECT last_value FROM game_operadores_seq)",
+				Long.class);
+		if (!ajustado.isEmpty()) {
+			log.info("game_operadores_seq alinhada ao maior id existente: {}", ajustado.get(0));
+		}
+	}
+
+	private boolean postgres() {
+		try (Connection conexao = dataSource.getConnection()) {
+			return "PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName());
+		} catch (SQLException e) {
+			throw new IllegalStateException("Não foi possível identificar o banco", e);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.play12.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionStage;
+
+// Timer "play12.servico" para todo método público dos @Service, com tags classe, metodo e excecao.
+// Endpoints já são medidos pelo http.server.requests do actuator.
+@Aspect
+@Component
+public class ServicoMetricasAspect {
+
+	private final MeterRegistry meterRegistry;
+
+	public ServicoMetricasAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Around("within(com.play12.service..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+	public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String classe = joinPoint.getSignature().getDeclaringType().getSimpleName();
+		String metodo = joinPoint.getSignature().getName();
+		Object resultado;
+		try {
+			resultado = joinPoint.proceed();
+		} catch (Throwable e) {
+			registrar(sample, classe, metodo, e);
+			throw e;
+		}
+		// Métodos assíncronos: mede até a conclusão do futuro, não só a montagem da chamada
+		if (resultado instanceof CompletionStage<?> futuro) {
+			futuro.whenComplete((valor, erro) -> registrar(sample, classe, metodo, erro));
+		} else {
+			registrar(sample, classe, metodo, null);
+		}
+		return resultado;
+	}
+
+	private void registrar(Timer.Sample sample, String classe, String metodo, Throwable erro) {
+		sample.stop(Timer.builder("play12.servico")
+				.description("Tempo dos métodos de serviço")
+				.tag("classe", classe)
+				.tag("metodo", metodo)
+				.tag("excecao", erro == null ? "none" : erro.getClass().getSimpleName())
+				.register(meterRegistry));
+	}
+}
@@ -0,0 +1,47 @@
+package com.play12.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Log de SQL amostrado e opt-in (app.sql-log.sample-rate entre 0 e 1), no lugar do spring.jpa.show-sql,
+// que escreve toda consulta no stdout. Com 0 (padrão) nenhuma consulta é logada.
+// Também alimenta a contagem por requisição usada pelo orçamento de SQL (SqlOrcamentoFilter).
+@Slf4j
+@Component
+public class SqlDiagnostico implements StatementInspector, HibernatePropertiesCustomizer {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final double taxaAmostragem;
+
+	public SqlDiagnostico(@Value("${app.sql-log.sample-rate:0}") double taxaAmostragem) {
+		this.taxaAmostragem = taxaAmostragem;
+	}
+
+	@Override
+	public void customize(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+		hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTempoListener.class.getName());
+	}
+
+	@Override
+	public String inspect(String sql) {
+		SqlRequisicao requisicao = SqlRequisicao.atual();
+		if (requisicao != null) {
+			requisicao.registrar(sql);
+		}
+		if (taxaAmostragem > 0 && ThreadLocalRandom.current().nextDouble() < taxaAmostragem) {
+			log.info("SQL: {}", sql);
+		}
+		return sql;
+	}
+}
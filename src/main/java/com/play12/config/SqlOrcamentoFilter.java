@@ -0,0 +1,74 @@
+package com.play12.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Orçamento de SQL por requisição: conta os statements de cada requisição HTTP e loga, com o endpoint
+// e as consultas mais repetidas, as que passam de app.sql-budget.max-statements (N+1 aparece aqui)
+@Slf4j
+@Component
+public class SqlOrcamentoFilter extends OncePerRequestFilter {
+
+	public static final String HEADER_STATEMENTS = "X-SQL-Count";
+	public static final String HEADER_TEMPO = "X-SQL-Time-Ms";
+
+	private final MeterRegistry meterRegistry;
+	private final int maxStatements;
+	private final boolean exporHeader;
+
+	public SqlOrcamentoFilter(MeterRegistry meterRegistry,
+							  @Value("${app.sql-budget.max-statements:30}") int maxStatements,
+							  @Value("${app.sql-budget.expose-header:false}") boolean exporHeader) {
+		this.meterRegistry = meterRegistry;
+		this.maxStatements = maxStatements;
+		this.exporHeader = exporHeader;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		SqlRequisicao sql = SqlRequisicao.iniciar();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			SqlRequisicao.encerrar();
+			avaliar(request, response, sql);
+		}
+	}
+
+	private void avaliar(HttpServletRequest request, HttpServletResponse response, SqlRequisicao sql) {
+		// Respostas sem corpo; as com corpo recebem os headers no SqlOrcamentoHeaderAdvice, antes do commit
+		if (exporHeader && !response.isCommitted()) {
+			response.setHeader(HEADER_STATEMENTS, String.valueOf(sql.getStatements()));
+			response.setHeader(HEADER_TEMPO, String.valueOf(sql.getTempoMs()));
+		}
+		if (sql.getStatements() == 0) {
+			return;
+		}
+
+		Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String endpoint = request.getMethod() + " " + (padrao != null ? padrao : request.getRequestURI());
+		DistributionSummary.builder("http.server.requests.sql")
+				.description("Statements SQL por requisição")
+				.tag("method", request.getMethod())
+				.tag("uri", padrao != null ? padrao.toString() : "UNKNOWN")
+				.register(meterRegistry)
+				.record(sql.getStatements());
+
+		if (sql.getStatements() > maxStatements) {
+			log.warn("Orçamento de SQL excedido em {}: {} statements (limite {}), {} ms{}",
+					endpoint, sql.getStatements(), maxStatements, sql.getTempoMs(), sql.resumoConsultas(5));
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.play12.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Fora de produção (app.sql-budget.expose-header=true): statements e tempo de SQL da requisição nos headers
+// X-SQL-Count e X-SQL-Time-Ms, escritos antes do corpo, quando o controller já terminou de consultar
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.sql-budget.expose-header", havingValue = "true")
+public class SqlOrcamentoHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+								  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+								  ServerHttpRequest request, ServerHttpResponse response) {
+		SqlRequisicao sql = SqlRequisicao.atual();
+		if (sql != null) {
+			response.getHeaders().set(SqlOrcamentoFilter.HEADER_STATEMENTS, String.valueOf(sql.getStatements()));
+			response.getHeaders().set(SqlOrcamentoFilter.HEADER_TEMPO, String.valueOf(sql.getTempoMs()));
+		}
+		return body;
+	}
+}
@@ -0,0 +1,68 @@
+package com.play12.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Contagem de SQL da requisição HTTP corrente (por thread): quantos statements, tempo de execução
+// e quantas vezes cada consulta, normalizada, apareceu. Preenchida pelo SqlDiagnostico e pelo SqlTempoListener.
+public final class SqlRequisicao {
+
+	private static final ThreadLocal<SqlRequisicao> ATUAL = new ThreadLocal<>();
+
+	// Listas de IN e espaços não distinguem consultas: "in (?,?,?)" e "in (?)" são a mesma impressão digital
+	private static final Pattern LISTA_IN = Pattern.compile("(?i)\\bin\\s*\\((\\s*\\?\\s*,?)+\\)");
+	private static final Pattern ESPACOS = Pattern.compile("\\s+");
+	private static final int MAX_CONSULTAS_DISTINTAS = 50;
+
+	private int statements;
+	private long nanos;
+	private final Map<String, Integer> consultas = new LinkedHashMap<>();
+
+	private SqlRequisicao() {
+	}
+
+	static SqlRequisicao iniciar() {
+		SqlRequisicao requisicao = new SqlRequisicao();
+		ATUAL.set(requisicao);
+		return requisicao;
+	}
+
+	static void encerrar() {
+		ATUAL.remove();
+	}
+
+	static SqlRequisicao atual() {
+		return ATUAL.get();
+	}
+
+	void registrar(String sql) {
+		statements++;
+		String impressao = ESPACOS.matcher(LISTA_IN.matcher(sql).replaceAll("in (...)")).replaceAll(" ").trim();
+		if (consultas.size() < MAX_CONSULTAS_DISTINTAS || consultas.containsKey(impressao)) {
+			consultas.merge(impressao, 1, Integer::sum);
+		}
+	}
+
+	void somarTempo(long nanos) {
+		this.nanos += nanos;
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getTempoMs() {
+		return nanos / 1_000_000;
+	}
+
+	// As consultas mais repetidas primeiro: um N+1 aparece no topo
+	String resumoConsultas(int limite) {
+		return consultas.entrySet().stream()
+				.sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+				.limit(limite)
+				.map(consulta -> consulta.getValue() + "x " + consulta.getKey())
+				.collect(Collectors.joining("\n  ", "\n  ", ""));
+	}
+}
@@ -0,0 +1,42 @@
+package com.play12.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+import java.io.Serial;
+
+// Instanciado pelo Hibernate por sessão (hibernate.session.events.auto): soma o tempo de execução
+// dos statements JDBC na contagem da requisição corrente
+public class SqlTempoListener extends BaseSessionEventListener {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private long inicio;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		inicio = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		somar();
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		inicio = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		somar();
+	}
+
+	private void somar() {
+		SqlRequisicao requisicao = SqlRequisicao.atual();
+		if (requisicao != null) {
+			requisicao.somarTempo(System.nanoTime() - inicio);
+		}
+	}
+}
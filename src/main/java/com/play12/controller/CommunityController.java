@@ -1,10 +1,13 @@
 package com.play12.controller;
 
+import com.play12.config.CacheConfig;
+import com.play12.config.CatalogoEtag;
 import com.play12.dto.CommunityPhotoDTO;
 import com.play12.service.CommunityPhotoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,10 +18,11 @@ import java.util.List;
 public class CommunityController {
 
 	private final CommunityPhotoService communityPhotoService;
+	private final CatalogoEtag catalogoEtag;
 
 	@GetMapping
-	public ResponseEntity<List<CommunityPhotoDTO>> listar() {
-		return ResponseEntity.ok(communityPhotoService.listar());
+	public ResponseEntity<List<CommunityPhotoDTO>> listar(WebRequest request) {
+		return catalogoEtag.responder(CacheConfig.FOTOS, request, communityPhotoService::listar);
 	}
 
 	@PostMapping
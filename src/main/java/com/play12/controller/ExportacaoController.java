@@ -0,0 +1,55 @@
+package com.play12.controller;
+
+import com.play12.service.ExportacaoService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+// Exportações com dados pessoais de operadores e pagadores: só ADMIN e sem @CrossOrigin,
+// ou seja, nenhum outro site lê a resposta com o token de quem está logado
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportacaoController {
+
+	private final ExportacaoService exportacaoService;
+
+	// Exportações escrevem direto na resposta, na thread da requisição: sem o timeout das requisições
+	// assíncronas e sem montar a lista em memória. ?formato=ndjson (padrão) ou csv
+	@GetMapping("/operadores")
+	public void exportarOperadores(@RequestParam(defaultValue = "ndjson") String formato,
+								   HttpServletResponse response) throws IOException {
+		ExportacaoService.Formato tipo = ExportacaoService.Formato.de(formato);
+		prepararExportacao(response, tipo, "operadores");
+		exportacaoService.exportarOperadores(tipo, response.getOutputStream());
+	}
+
+	@GetMapping("/jogos/{gameId}/operadores")
+	public void exportarElenco(@PathVariable Long gameId,
+							   @RequestParam(defaultValue = "ndjson") String formato,
+							   HttpServletResponse response) throws IOException {
+		ExportacaoService.Formato tipo = ExportacaoService.Formato.de(formato);
+		prepararExportacao(response, tipo, "jogo-" + gameId + "-operadores");
+		exportacaoService.exportarElenco(gameId, tipo, response.getOutputStream());
+	}
+
+	@GetMapping("/pagamentos")
+	public void exportarPagamentos(@RequestParam(defaultValue = "ndjson") String formato,
+								   HttpServletResponse response) throws IOException {
+		ExportacaoService.Formato tipo = ExportacaoService.Formato.de(formato);
+		prepararExportacao(response, tipo, "pagamentos");
+		exportacaoService.exportarPagamentos(tipo, response.getOutputStream());
+	}
+
+	private void prepararExportacao(HttpServletResponse response, ExportacaoService.Formato formato, String nome) {
+		response.setContentType(formato.getContentType());
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"" + nome + "." + formato.getExtensao() + "\"");
+	}
+}
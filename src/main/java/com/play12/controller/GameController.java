@@ -1,16 +1,26 @@
 package com.play12.controller;
 
+import com.play12.config.CacheConfig;
+import com.play12.config.CatalogoEtag;
 import com.play12.dto.AddPlayersToGameDTO;
+import com.play12.dto.ApiResponse;
 import com.play12.dto.GameDTO;
 import com.play12.dto.GameOperadorDTO;
+import com.play12.dto.InscricaoResultadoDTO;
+import com.play12.dto.OperadorDTO;
+import com.play12.dto.PontuacaoJogoDTO;
+import com.play12.security.TokenOperador;
 import com.play12.service.GameService;
+import com.play12.service.InscricaoService;
+import com.play12.service.PontuacaoService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/jogos")
@@ -19,10 +29,13 @@ import java.util.Map;
 public class GameController {
 
 	private final GameService gameService;
+	private final InscricaoService inscricaoService;
+	private final PontuacaoService pontuacaoService;
+	private final CatalogoEtag catalogoEtag;
 
 	@GetMapping
-	public ResponseEntity<List<GameDTO>> listar() {
-		return ResponseEntity.ok(gameService.listar());
+	public ResponseEntity<List<GameDTO>> listar(WebRequest request) {
+		return catalogoEtag.responder(CacheConfig.JOGOS, request, gameService::listar);
 	}
 
 	@GetMapping("/proximos")
@@ -54,37 +67,43 @@ public class GameController {
 	}
 
 	@PostMapping("/{gameId}/operadores")
-	public ResponseEntity<Map<String, Object>> adicionarOperadores(
+	public ResponseEntity<ApiResponse<List<GameOperadorDTO>>> adicionarOperadores(
 			@PathVariable Long gameId,
 			@RequestBody AddPlayersToGameDTO dto) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			List<GameOperadorDTO> added = gameService.adicionarOperadores(gameId, dto);
-			response.put("success", true);
-			response.put("message", added.size() + " operador(es) adicionado(s) ao jogo com sucesso!");
-			response.put("data", added);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+		List<GameOperadorDTO> added = gameService.adicionarOperadores(gameId, dto);
+		return ResponseEntity.ok(ApiResponse.ok(
+				added.size() + " operador(es) adicionado(s) ao jogo com sucesso!", added));
+	}
+
+	// Só autenticado (SecurityConfig) e sempre o operador do token: o corpo escolhe no máximo time e squad
+	@PostMapping("/{gameId}/inscricao")
+	public ResponseEntity<ApiResponse<InscricaoResultadoDTO>> inscrever(
+			@PathVariable Long gameId,
+			@AuthenticationPrincipal TokenOperador operador,
+			@RequestBody(required = false) AddPlayersToGameDTO.PlayerEntry corpo) {
+		AddPlayersToGameDTO.PlayerEntry entry = new AddPlayersToGameDTO.PlayerEntry(operador.id(),
+				corpo != null ? corpo.getTeam() : null, corpo != null ? corpo.getSquad() : null);
+		InscricaoResultadoDTO resultado = inscricaoService.inscrever(gameId, entry);
+		String mensagem = "CONFIRMADO".equals(resultado.getStatus())
+				? "Inscrição confirmada!"
+				: "Jogo lotado. Você está na posição " + resultado.getPosicaoEspera() + " da lista de espera";
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.ok(mensagem, resultado));
+	}
+
+	@PostMapping("/{gameId}/pontuacao")
+	public ResponseEntity<ApiResponse<List<OperadorDTO>>> pontuar(
+			@PathVariable Long gameId,
+			@RequestBody PontuacaoJogoDTO dto) {
+		List<OperadorDTO> pontuados = pontuacaoService.pontuarJogo(gameId, dto);
+		return ResponseEntity.ok(ApiResponse.ok(
+				"Pontuação do jogo registrada para " + pontuados.size() + " operador(es)!", pontuados));
 	}
 
 	@DeleteMapping("/{gameId}/operadores/{operadorId}")
-	public ResponseEntity<Map<String, Object>> removerOperadorDoJogo(
+	public ResponseEntity<ApiResponse<Void>> removerOperadorDoJogo(
 			@PathVariable Long gameId,
 			@PathVariable Long operadorId) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			gameService.removerOperadorDoJogo(gameId, operadorId);
-			response.put("success", true);
-			response.put("message", "Operador removido do jogo com sucesso!");
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+		gameService.removerOperadorDoJogo(gameId, operadorId);
+		return ResponseEntity.ok(ApiResponse.ok("Operador removido do jogo com sucesso!"));
 	}
 }
@@ -1,20 +1,31 @@
 package com.play12.controller;
 
+import com.play12.dto.ApiResponse;
 import com.play12.dto.CadastroDTO;
+import com.play12.dto.CursorPageDTO;
 import com.play12.dto.LoginDTO;
 import com.play12.dto.OperadorAdminUpdateDTO;
 import com.play12.dto.OperadorDTO;
+import com.play12.dto.OperadorFiltroDTO;
 import com.play12.dto.OperadorUpdatePontosDTO;
+import com.play12.enumeracao.FuncaoOperador;
+import com.play12.enumeracao.OrdenacaoOperador;
+import com.play12.enumeracao.TipoOperador;
+import com.play12.security.TokenService;
+import com.play12.service.LoginOcupadoException;
+import com.play12.service.LoginService;
 import com.play12.service.OperadorService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/operadores")
@@ -23,154 +34,104 @@ import java.util.Map;
 public class OperadorController {
 
 	private final OperadorService operadorService;
+	private final LoginService loginService;
+	private final TokenService tokenService;
+
+	// Erros de validação (IllegalArgumentException) viram 400 no GlobalExceptionHandler
 
 	@PostMapping("/cadastro")
-	public ResponseEntity<Map<String, Object>> cadastro(@Valid @RequestBody CadastroDTO dto) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.cadastrar(dto);
-			response.put("success", true);
-			response.put("message", "Cadastro realizado com sucesso!");
-			response.put("data", operador);
-			return ResponseEntity.status(HttpStatus.CREATED).body(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		} catch (Exception e) {
-			response.put("success", false);
-			response.put("message", "Erro ao cadastrar: " + e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-		}
+	public ResponseEntity<ApiResponse<OperadorDTO>> cadastro(@Valid @RequestBody CadastroDTO dto) {
+		return ResponseEntity.status(HttpStatus.CREATED)
+				.body(ApiResponse.ok("Cadastro realizado com sucesso!", operadorService.cadastrar(dto)));
 	}
 
 	@PostMapping("/login")
-	public ResponseEntity<Map<String, Object>> login(@Valid @RequestBody LoginDTO dto) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.login(dto);
-			response.put("success", true);
-			response.put("message", "Login realizado com sucesso!");
-			response.put("data", operador);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-		} catch (Exception e) {
-			response.put("success", false);
-			response.put("message", "Erro ao fazer login: " + e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+	public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginDTO dto, HttpServletRequest request) {
+		if (!loginService.permitirTentativa(request.getRemoteAddr())) {
+			return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+					.body(ApiResponse.erro("Muitas tentativas de login, aguarde um minuto")));
 		}
+
+		// A verificação da senha roda no pool do LoginService; a thread do servlet fica livre
+		return loginService.login(dto)
+				.<ResponseEntity<?>>thenApply(operador -> ResponseEntity.ok(new ApiResponse.Login(true,
+						"Login realizado com sucesso!", operador,
+						tokenService.emitir(operador), tokenService.getValidadeSegundos())))
+				.exceptionally(e -> {
+					// Credencial inválida é 401 aqui, não o 400 do GlobalExceptionHandler
+					Throwable causa = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					if (causa instanceof IllegalArgumentException) {
+						return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.erro(causa.getMessage()));
+					}
+					if (causa instanceof LoginOcupadoException) {
+						return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.erro(causa.getMessage()));
+					}
+					return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+							.body(ApiResponse.erro("Erro ao fazer login: " + causa.getMessage()));
+				});
 	}
 
 	@GetMapping("/{id}")
-	public ResponseEntity<Map<String, Object>> obterPorId(@PathVariable Long id) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.buscarPorId(id);
-			response.put("success", true);
-			response.put("data", operador);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+	public ResponseEntity<ApiResponse<OperadorDTO>> obterPorId(@PathVariable Long id) {
+		return ResponseEntity.ok(ApiResponse.ok(operadorService.buscarPorId(id)));
 	}
 
 	@GetMapping
-	public ResponseEntity<Map<String, Object>> listar() {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			List<OperadorDTO> operadores = operadorService.listarTodos();
-			response.put("success", true);
-			response.put("data", operadores);
-			return ResponseEntity.ok(response);
-		} catch (Exception e) {
-			response.put("success", false);
-			response.put("message", "Erro ao listar operadores: " + e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+	public ResponseEntity<?> listar(
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String direction,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) TipoOperador tipo,
+			@RequestParam(required = false) FuncaoOperador funcao,
+			@RequestParam(required = false) Boolean pago,
+			@RequestParam(required = false) Long squadId) {
+		// Sem parâmetros mantém a listagem completa usada pelo frontend
+		if (sort == null && direction == null && cursor == null && limit == null
+				&& tipo == null && funcao == null && pago == null && squadId == null) {
+			return ResponseEntity.ok(ApiResponse.ok(operadorService.listarTodos()));
 		}
+
+		OperadorFiltroDTO filtro = OperadorFiltroDTO.builder()
+				.tipo(tipo)
+				.funcao(funcao)
+				.pago(pago)
+				.squadId(squadId)
+				.build();
+		Sort.Direction direcao = direction != null
+				? Sort.Direction.fromString(direction)
+				: Sort.Direction.ASC;
+		CursorPageDTO<OperadorDTO> pagina = operadorService.listarPaginado(
+				OrdenacaoOperador.fromParam(sort), direcao, cursor, limit, filtro);
+		return ResponseEntity.ok(ApiResponse.Pagina.de(pagina));
 	}
 
 	@PutMapping("/{id}")
-	public ResponseEntity<Map<String, Object>> atualizar(@PathVariable Long id, @Valid @RequestBody CadastroDTO dto) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.atualizar(id, dto);
-			response.put("success", true);
-			response.put("message", "Operador atualizado com sucesso!");
-			response.put("data", operador);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+	public ResponseEntity<ApiResponse<OperadorDTO>> atualizar(@PathVariable Long id, @Valid @RequestBody CadastroDTO dto) {
+		return ResponseEntity.ok(ApiResponse.ok("Operador atualizado com sucesso!", operadorService.atualizar(id, dto)));
 	}
 
 	@PutMapping("/{id}/admin")
-	public ResponseEntity<Map<String, Object>> atualizarAdmin(@PathVariable Long id, @RequestBody OperadorAdminUpdateDTO dto) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.atualizarAdmin(id, dto);
-			response.put("success", true);
-			response.put("message", "Operador atualizado com sucesso!");
-			response.put("data", operador);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+	public ResponseEntity<ApiResponse<OperadorDTO>> atualizarAdmin(@PathVariable Long id, @RequestBody OperadorAdminUpdateDTO dto) {
+		return ResponseEntity.ok(ApiResponse.ok("Operador atualizado com sucesso!", operadorService.atualizarAdmin(id, dto)));
 	}
 
 	@PutMapping("/{id}/pontos")
-	public ResponseEntity<Map<String, Object>> atualizarPontos(@PathVariable Long id, @RequestBody OperadorUpdatePontosDTO dto) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.atualizarPontos(id, dto.getPontos());
-			response.put("success", true);
-			response.put("message", "Pontos atualizados com sucesso!");
-			response.put("data", operador);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+	public ResponseEntity<ApiResponse<OperadorDTO>> atualizarPontos(@PathVariable Long id, @RequestBody OperadorUpdatePontosDTO dto) {
+		return ResponseEntity.ok(ApiResponse.ok("Pontos atualizados com sucesso!",
+				operadorService.atualizarPontos(id, dto.getPontos())));
 	}
 
 	@PutMapping("/{operadorId}/squad/{squadId}")
-	public ResponseEntity<Map<String, Object>> adicionarAoSquad(@PathVariable Long operadorId, @PathVariable Long squadId) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			OperadorDTO operador = operadorService.adicionarAoSquad(operadorId, squadId);
-			response.put("success", true);
-			response.put("message", "Operador adicionado ao squad com sucesso!");
-			response.put("data", operador);
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+	public ResponseEntity<ApiResponse<OperadorDTO>> adicionarAoSquad(@PathVariable Long operadorId, @PathVariable Long squadId) {
+		return ResponseEntity.ok(ApiResponse.ok("Operador adicionado ao squad com sucesso!",
+				operadorService.adicionarAoSquad(operadorId, squadId)));
 	}
 
 	@DeleteMapping("/{id}")
-	public ResponseEntity<Map<String, Object>> deletar(@PathVariable Long id) {
-		Map<String, Object> response = new HashMap<>();
-		try {
-			operadorService.deletar(id);
-			response.put("success", true);
-			response.put("message", "Operador deletado com sucesso!");
-			return ResponseEntity.ok(response);
-		} catch (IllegalArgumentException e) {
-			response.put("success", false);
-			response.put("message", e.getMessage());
-			return ResponseEntity.badRequest().body(response);
-		}
+	public ResponseEntity<ApiResponse<Void>> deletar(@PathVariable Long id) {
+		operadorService.deletar(id);
+		return ResponseEntity.ok(ApiResponse.ok("Operador deletado com sucesso!"));
 	}
 
 }
@@ -3,15 +3,22 @@ package com.play12.controller;
 import com.play12.dto.PaymentRequestDTO;
 import com.play12.dto.PIXPaymentResponseDTO;
 import com.play12.entity.Payment;
+import com.play12.service.MercadoPagoOcupadoException;
+import com.play12.service.PagamentoStatusService;
 import com.play12.service.PaymentService;
+import com.play12.service.WebhookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -20,48 +27,59 @@ import java.util.Map;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final WebhookService webhookService;
+    private final PagamentoStatusService pagamentoStatusService;
 
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService,
+                             WebhookService webhookService,
+                             PagamentoStatusService pagamentoStatusService) {
         this.paymentService = paymentService;
+        this.webhookService = webhookService;
+        this.pagamentoStatusService = pagamentoStatusService;
     }
 
     @PostMapping("/pix/create")
     @Operation(summary = "Criar pagamento Pix", description = "Gera QR Code para pagamento")
-    public ResponseEntity<PIXPaymentResponseDTO> createPixPayment(@RequestBody PaymentRequestDTO request) {
-        try {
-            log.info("Criando pagamento Pix para: {}", request.getPayerEmail());
-            
-            // Validações básicas
-            if (request.getPayerEmail() == null || request.getPayerEmail().isEmpty()) {
-                return ResponseEntity.badRequest().body(
-                    PIXPaymentResponseDTO.builder()
-                            .status("ERROR")
-                            .message("Email do pagador é obrigatório")
-                            .build()
-                );
-            }
-
-            if (request.getAmount() == null || request.getAmount().signum() <= 0) {
-                return ResponseEntity.badRequest().body(
-                    PIXPaymentResponseDTO.builder()
-                            .status("ERROR")
-                            .message("Valor deve ser maior que zero")
-                            .build()
-                );
-            }
-
-            PIXPaymentResponseDTO response = paymentService.createPixPayment(request);
-            return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<PIXPaymentResponseDTO>> createPixPayment(@RequestBody PaymentRequestDTO request) {
+        log.info("Criando pagamento Pix para: {}", request.getPayerEmail());
 
-        } catch (Exception e) {
-            log.error("Erro create payment", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        // Validações básicas
+        if (request.getPayerEmail() == null || request.getPayerEmail().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(
                 PIXPaymentResponseDTO.builder()
                         .status("ERROR")
-                        .message("Erro ao criar pagamento: " + e.getMessage())
+                        .message("Email do pagador é obrigatório")
                         .build()
-            );
+            ));
         }
+
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(
+                PIXPaymentResponseDTO.builder()
+                        .status("ERROR")
+                        .message("Valor deve ser maior que zero")
+                        .build()
+            ));
+        }
+
+        // A thread do servlet é liberada enquanto o Mercado Pago responde
+        return paymentService.createPixPayment(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> {
+                    Throwable causa = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("Erro create payment", causa);
+
+                    // Bulkhead cheio: o cliente pode tentar de novo
+                    HttpStatus status = causa instanceof MercadoPagoOcupadoException
+                            ? HttpStatus.SERVICE_UNAVAILABLE
+                            : HttpStatus.INTERNAL_SERVER_ERROR;
+                    return ResponseEntity.status(status).body(
+                        PIXPaymentResponseDTO.builder()
+                                .status("ERROR")
+                                .message("Erro ao criar pagamento: " + causa.getMessage())
+                                .build()
+                    );
+                });
     }
 
     @GetMapping("/pix/status/{transactionId}")
@@ -78,16 +96,44 @@ public class PaymentController {
         }
     }
 
-    @PostMapping("/webhook/mercadopago")
-    @Operation(summary = "Webhook Mercado Pago", description = "Recebe notificações de pagamento")
-    public ResponseEntity<?> handleWebhook(@RequestParam Map<String, String> data) {
+    @GetMapping(value = "/pix/{transactionId}/qrcode.png", produces = MediaType.IMAGE_PNG_VALUE)
+    @Operation(summary = "Imagem do QR Code", description = "PNG do BR Code de um pagamento gerado localmente")
+    public ResponseEntity<byte[]> getQrCode(@PathVariable String transactionId) {
         try {
-            log.info("Webhook recebido: {}", data);
-            // Processar webhook conforme necessário
-            return ResponseEntity.ok(Map.of("status", "received"));
+            return ResponseEntity.ok(paymentService.qrCodePix(transactionId));
         } catch (Exception e) {
-            log.error("Erro processing webhook", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    @GetMapping("/pix/status/{transactionId}/stream")
+    @Operation(summary = "Acompanhar status", description = "Envia o status por SSE a cada alteração, até um status final")
+    public ResponseEntity<SseEmitter> streamPaymentStatus(@PathVariable String transactionId) {
+        try {
+            return ResponseEntity.ok(pagamentoStatusService.acompanhar(transactionId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    @PostMapping("/webhook/mercadopago")
+    @Operation(summary = "Webhook Mercado Pago", description = "Recebe notificações de pagamento")
+    public ResponseEntity<?> handleWebhook(@RequestParam Map<String, String> data,
+                                           @RequestBody(required = false) Map<String, Object> body,
+                                           @RequestHeader(value = "x-signature", required = false) String assinatura,
+                                           @RequestHeader(value = "x-request-id", required = false) String requestId) {
+        // Só enfileira: o status é aplicado pelos workers, sem o Mercado Pago esperar o banco
+        WebhookService.Recebimento recebimento = webhookService.receber(data, body, assinatura, requestId);
+        log.debug("Webhook {}: {}", recebimento, data);
+
+        if (recebimento == WebhookService.Recebimento.ASSINATURA_INVALIDA) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("status", "invalid signature"));
+        }
+
+        if (recebimento == WebhookService.Recebimento.FILA_CHEIA) {
+            // Fora do 2xx o Mercado Pago reenvia a notificação mais tarde
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "busy"));
         }
+        return ResponseEntity.ok(Map.of("status", "received"));
     }
 }
@@ -1,10 +1,13 @@
 package com.play12.controller;
 
+import com.play12.config.CacheConfig;
+import com.play12.config.CatalogoEtag;
 import com.play12.dto.ProductDTO;
 import com.play12.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,10 +18,11 @@ import java.util.List;
 public class ProductController {
 
 	private final ProductService productService;
+	private final CatalogoEtag catalogoEtag;
 
 	@GetMapping
-	public ResponseEntity<List<ProductDTO>> listar() {
-		return ResponseEntity.ok(productService.listar());
+	public ResponseEntity<List<ProductDTO>> listar(WebRequest request) {
+		return catalogoEtag.responder(CacheConfig.PRODUTOS, request, productService::listar);
 	}
 
 	@PostMapping
@@ -0,0 +1,42 @@
+package com.play12.controller;
+
+import com.play12.dto.RankingOperadorDTO;
+import com.play12.dto.RankingSquadDTO;
+import com.play12.service.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/ranking")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RankingController {
+
+	private static final int LIMITE_MAXIMO = 100;
+
+	private final RankingService rankingService;
+
+	@GetMapping("/operadores")
+	public ResponseEntity<List<RankingOperadorDTO>> top(@RequestParam(defaultValue = "10") int limit) {
+		return ResponseEntity.ok(rankingService.top(Math.min(limit, LIMITE_MAXIMO)));
+	}
+
+	@GetMapping("/operadores/{operadorId}")
+	public ResponseEntity<RankingOperadorDTO> posicao(@PathVariable Long operadorId) {
+		return ResponseEntity.ok(rankingService.posicaoDe(operadorId));
+	}
+
+	@GetMapping("/operadores/{operadorId}/vizinhos")
+	public ResponseEntity<List<RankingOperadorDTO>> vizinhos(@PathVariable Long operadorId,
+			@RequestParam(defaultValue = "2") int raio) {
+		return ResponseEntity.ok(rankingService.vizinhos(operadorId, Math.min(Math.max(raio, 0), LIMITE_MAXIMO)));
+	}
+
+	@GetMapping("/squads")
+	public ResponseEntity<List<RankingSquadDTO>> squads() {
+		return ResponseEntity.ok(rankingService.squads());
+	}
+}
@@ -1,10 +1,13 @@
 package com.play12.controller;
 
+import com.play12.config.CacheConfig;
+import com.play12.config.CatalogoEtag;
 import com.play12.dto.SquadDTO;
 import com.play12.service.SquadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,10 +18,11 @@ import java.util.List;
 public class SquadController {
 
 	private final SquadService squadService;
+	private final CatalogoEtag catalogoEtag;
 
 	@GetMapping
-	public ResponseEntity<List<SquadDTO>> listar() {
-		return ResponseEntity.ok(squadService.listar());
+	public ResponseEntity<List<SquadDTO>> listar(WebRequest request) {
+		return catalogoEtag.responder(CacheConfig.SQUADS, request, squadService::listar);
 	}
 
 	@PostMapping
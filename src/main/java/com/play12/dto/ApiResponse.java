@@ -0,0 +1,41 @@
+package com.play12.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Envelope das respostas {"success", "message", "data"}: records imutáveis e tipados, serializados como bean
+// (propriedades resolvidas uma vez por classe), no lugar de um HashMap novo por requisição.
+// Campos nulos ficam fora do JSON, como quando a chave não era colocada no mapa.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponse<T>(boolean success, String message, T data) {
+
+	public static <T> ApiResponse<T> ok(T data) {
+		return new ApiResponse<>(true, null, data);
+	}
+
+	public static <T> ApiResponse<T> ok(String message, T data) {
+		return new ApiResponse<>(true, message, data);
+	}
+
+	public static ApiResponse<Void> ok(String message) {
+		return new ApiResponse<>(true, message, null);
+	}
+
+	public static ApiResponse<Void> erro(String message) {
+		return new ApiResponse<>(false, message, null);
+	}
+
+	// Listagem paginada por cursor; nextCursor aparece como null na última página
+	public record Pagina<T>(boolean success, List<T> data,
+							@JsonInclude(JsonInclude.Include.ALWAYS) String nextCursor, boolean hasMore) {
+
+		public static <T> Pagina<T> de(CursorPageDTO<T> pagina) {
+			return new Pagina<>(true, pagina.getItens(), pagina.getNextCursor(), pagina.isHasMore());
+		}
+	}
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public record Login(boolean success, String message, OperadorDTO data, String token, long expiresIn) {
+	}
+}
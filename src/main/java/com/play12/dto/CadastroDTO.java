@@ -1,5 +1,6 @@
 package com.play12.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+// Clientes antigos ainda mandam "admin": ignorado, o cadastro público só cria JOGADOR
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class CadastroDTO {
 
 	@Email(message = "Email deve ser válido")
@@ -24,6 +27,4 @@ public class CadastroDTO {
 
 	private String telefone;
 
-	private Boolean admin = false;
-
 }
@@ -0,0 +1,18 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+	private List<T> itens;
+	private String nextCursor;
+	private boolean hasMore;
+}
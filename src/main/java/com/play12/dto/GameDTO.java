@@ -39,5 +39,6 @@ public class GameDTO {
 	
 	private String local;
 	private Integer confirmados;
+	private Integer capacidade;
 	private String status;
 }
@@ -0,0 +1,17 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InscricaoResultadoDTO {
+	private Long gameId;
+	private Long operadorId;
+	private String status; // CONFIRMADO, LISTA_DE_ESPERA
+	private Integer posicaoEspera;
+}
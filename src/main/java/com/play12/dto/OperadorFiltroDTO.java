@@ -0,0 +1,19 @@
+package com.play12.dto;
+
+import com.play12.enumeracao.FuncaoOperador;
+import com.play12.enumeracao.TipoOperador;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OperadorFiltroDTO {
+	private TipoOperador tipo;
+	private FuncaoOperador funcao;
+	private Boolean pago;
+	private Long squadId;
+}
@@ -0,0 +1,29 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@SuppressWarnings("unused")
+public class PaymentExportDTO {
+    private String transactionId;
+    private Long productId;
+    private BigDecimal amount;
+    private Integer quantity;
+    private String status;
+    private String paymentMethod;
+    private String payerEmail;
+    private String payerName;
+    private String merchantOrderId;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expirationTime;
+}
@@ -0,0 +1,19 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentStatusDTO {
+    private String transactionId;
+    private String status;
+    private LocalDateTime completedAt;
+    private LocalDateTime expirationTime;
+}
@@ -0,0 +1,22 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PontuacaoJogoDTO {
+	private List<Resultado> resultados;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Resultado {
+		private Long operadorId;
+		private Integer pontos; // pontos ganhos no jogo (somados ao total do operador)
+	}
+}
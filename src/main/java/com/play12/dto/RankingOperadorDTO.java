@@ -0,0 +1,19 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingOperadorDTO {
+	private Integer posicao;
+	private Long operadorId;
+	private String nickname;
+	private Long squadId;
+	private String squadNome;
+	private Integer pontos;
+}
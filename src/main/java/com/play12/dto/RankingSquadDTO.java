@@ -0,0 +1,18 @@
+package com.play12.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingSquadDTO {
+	private Integer posicao;
+	private Long squadId;
+	private String nome;
+	private Long pontos;
+	private Integer operadores;
+}
@@ -41,6 +41,14 @@ public class Game {
 	@Column(nullable = false)
 	private Integer confirmados = 0;
 
+	// null = sem limite de vagas
+	@Column
+	private Integer capacidade;
+
 	@Column(nullable = false)
 	private String status = "Próximo";
+
+	@Version
+	@Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private Long version;
 }
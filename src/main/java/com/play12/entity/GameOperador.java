@@ -16,8 +16,10 @@ import lombok.NoArgsConstructor;
 @Builder
 public class GameOperador {
 
+	// Sequence em vez de IDENTITY para permitir batch de inserts (alocação em blocos de 50)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_operadores_seq")
+	@SequenceGenerator(name = "game_operadores_seq", sequenceName = "game_operadores_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -10,7 +10,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // Varredura de PIX vencidos: status = PENDING AND expiration_time < agora
+        @Index(name = "idx_payments_status_expiration", columnList = "status, expiration_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -68,6 +71,10 @@ public class Payment {
     @Column
     private String merchantOrderId;
 
+    // external_reference enviado na preferência: é o que as consultas de payment e merchant_order devolvem
+    @Column(unique = true)
+    private String externalReference;
+
     @Transient
     private String responseData;
 
@@ -0,0 +1,29 @@
+package com.play12.enumeracao;
+
+public enum OrdenacaoOperador {
+	NICKNAME("nickname"),
+	PONTOS("pontos"),
+	TOTAL_JOGOS("totalJogos");
+
+	private final String propriedade;
+
+	OrdenacaoOperador(String propriedade) {
+		this.propriedade = propriedade;
+	}
+
+	public String getPropriedade() {
+		return propriedade;
+	}
+
+	public static OrdenacaoOperador fromParam(String valor) {
+		if (valor == null || valor.isBlank()) {
+			return NICKNAME;
+		}
+		for (OrdenacaoOperador ordenacao : values()) {
+			if (ordenacao.propriedade.equalsIgnoreCase(valor) || ordenacao.name().equalsIgnoreCase(valor)) {
+				return ordenacao;
+			}
+		}
+		throw new IllegalArgumentException("Ordenação inválida: " + valor + ". Use nickname, pontos ou totalJogos");
+	}
+}
@@ -0,0 +1,5 @@
+package com.play12.event;
+
+// Jogo criado, atualizado ou com o elenco alterado; removido = true quando o jogo foi deletado
+public record JogoAlteradoEvent(Long gameId, boolean removido) {
+}
@@ -0,0 +1,7 @@
+package com.play12.event;
+
+import com.play12.dto.OperadorDTO;
+
+// Estado do operador após a alteração e variações nos totais de operadores e de pagos (+1, 0 ou -1)
+public record OperadorAlteradoEvent(OperadorDTO operador, boolean removido, int deltaTotal, int deltaPagos) {
+}
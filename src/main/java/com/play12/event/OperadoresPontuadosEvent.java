@@ -0,0 +1,10 @@
+package com.play12.event;
+
+import com.play12.dto.OperadorDTO;
+
+import java.util.List;
+
+// Pontuação de um jogo: estado de todos os operadores pontuados num único evento, para o ranking
+// reconstruir o índice uma vez em vez de uma por operador
+public record OperadoresPontuadosEvent(List<OperadorDTO> operadores) {
+}
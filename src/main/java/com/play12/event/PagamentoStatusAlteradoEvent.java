@@ -0,0 +1,5 @@
+package com.play12.event;
+
+// Status de um pagamento possivelmente alterado; quem escuta relê o status atual
+public record PagamentoStatusAlteradoEvent(String transactionId) {
+}
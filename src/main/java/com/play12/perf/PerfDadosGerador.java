@@ -0,0 +1,132 @@
+package com.play12.perf;
+
+import com.play12.entity.Game;
+import com.play12.entity.GameOperador;
+import com.play12.entity.Operador;
+import com.play12.entity.Squad;
+import com.play12.enumeracao.TipoJogo;
+import com.play12.enumeracao.TipoOperador;
+import com.play12.repository.GameOperadorRepository;
+import com.play12.repository.GameRepository;
+import com.play12.repository.OperadorRepository;
+import com.play12.repository.SquadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Massa do perfil perf: squads, operadores, jogos futuros e o elenco de cada jogo.
+// Roda antes do Tomcat aceitar requisições (nenhum cache guarda listas vazias) e antes do
+// ApplicationReadyEvent, então dashboard e ranking já sobem com os dados.
+@Slf4j
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class PerfDadosGerador implements SmartInitializingSingleton {
+
+	// Senha de todos os operadores gerados, para cenários de login
+	public static final String SENHA = "perf-senha";
+
+	private final SquadRepository squadRepository;
+	private final OperadorRepository operadorRepository;
+	private final GameRepository gameRepository;
+	private final GameOperadorRepository gameOperadorRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${app.perf.seed.squads:50}")
+	private int quantidadeSquads;
+
+	@Value("${app.perf.seed.operadores:2000}")
+	private int quantidadeOperadores;
+
+	@Value("${app.perf.seed.jogos:20}")
+	private int quantidadeJogos;
+
+	@Value("${app.perf.seed.elenco:100}")
+	private int tamanhoElenco;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> gerar());
+	}
+
+	private void gerar() {
+		if (operadorRepository.count() > 0) {
+			return;
+		}
+		long inicio = System.currentTimeMillis();
+
+		List<Squad> squads = new ArrayList<>();
+		for (int i = 0; i < quantidadeSquads; i++) {
+			squads.add(Squad.builder()
+					.nome("Perf Squad " + i)
+					.qtdOperadores(0)
+					.jogosJogados(0)
+					.pontuacaoTotal(0)
+					.build());
+		}
+		squads = squadRepository.saveAll(squads);
+
+		// Um único hash: BCrypt por operador deixaria a carga inicial lenta
+		String hash = passwordEncoder.encode(SENHA);
+		List<Operador> operadores = new ArrayList<>();
+		for (int i = 0; i < quantidadeOperadores; i++) {
+			Squad squad = squads.isEmpty() ? null : squads.get(i % squads.size());
+			if (squad != null) {
+				squad.setQtdOperadores(squad.getQtdOperadores() + 1);
+			}
+			operadores.add(Operador.builder()
+					.email("perf" + i + "@play12.com.br")
+					.nickname("Perf" + i)
+					.senha(hash)
+					// perf0 é ADMIN: token para actuator e rotas de administração nos testes de carga
+					.tipo(i == 0 ? TipoOperador.ADMIN : TipoOperador.JOGADOR)
+					.nomeCompleto("Operador Perf " + i)
+					.telefone("11999990000")
+					.squad(squad)
+					.pontos((i * 37) % 1000)
+					.build());
+		}
+		operadores = operadorRepository.saveAll(operadores);
+
+		TipoJogo[] tipos = TipoJogo.values();
+		List<GameOperador> elencos = new ArrayList<>();
+		for (int j = 0; j < quantidadeJogos; j++) {
+			int elenco = Math.min(tamanhoElenco, operadores.size());
+			Game game = gameRepository.save(Game.builder()
+					.titulo("Operação Perf " + j)
+					.tipo(tipos[j % tipos.length])
+					.data(LocalDate.now().plusDays(j + 1))
+					.horario(LocalTime.of(8, 0))
+					.local("Campo Perf")
+					.confirmados(elenco)
+					.status("Próximo")
+					.build());
+
+			for (int i = 0; i < elenco; i++) {
+				Operador operador = operadores.get((j * tamanhoElenco + i) % operadores.size());
+				elencos.add(GameOperador.builder()
+						.game(game)
+						.operador(operador)
+						.team(i % 2 == 0 ? "BLUFOR" : "OPFOR")
+						.squad(operador.getSquad() != null ? operador.getSquad().getNome() : "")
+						.build());
+			}
+		}
+		gameOperadorRepository.saveAll(elencos);
+
+		log.info("Massa perf gerada em {} ms: {} squads, {} operadores, {} jogos, {} inscrições",
+				System.currentTimeMillis() - inicio, squads.size(), operadores.size(), quantidadeJogos, elencos.size());
+	}
+}
@@ -0,0 +1,72 @@
+package com.play12.perf;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// Imita as rotas do Mercado Pago usadas pela aplicação. A latência é simulada de forma assíncrona,
+// sem ocupar thread do Tomcat, para que o stub não vire o gargalo do teste de carga.
+@Profile("perf")
+@RestController
+@RequestMapping("/perf/mercadopago")
+public class PerfMercadoPagoStubController {
+
+	private final Executor atraso;
+
+	// external_reference de cada preferência criada. No stub o id do pagamento e o da merchant order
+	// são o próprio id da preferência; na API real são ids distintos, ligados pelo external_reference
+	private final Map<String, String> referencias = new ConcurrentHashMap<>();
+
+	public PerfMercadoPagoStubController(@Value("${app.perf.mercadopago.latency-ms:150}") long latenciaMs) {
+		this.atraso = CompletableFuture.delayedExecutor(latenciaMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PostMapping("/checkout/preferences")
+	public CompletableFuture<Map<String, Object>> criarPreferencia(@RequestBody Map<String, Object> preferencia) {
+		String id = "perf-" + UUID.randomUUID();
+		String referencia = String.valueOf(preferencia.get("external_reference"));
+		referencias.put(id, referencia);
+		return CompletableFuture.supplyAsync(() -> Map.of(
+				"id", id,
+				"external_reference", referencia,
+				"init_point", "https://www.mercadopago.com.br/checkout/v1/redirect?pref_id=" + id,
+				"point_of_interaction", Map.of("transaction_data", Map.of(
+						"qr_code", "00020126360014br.gov.bcb.pix0114perf@play12.com5204000053039865802BR5906PLAY126009SAO PAULO62070503***6304ABCD",
+						"qr_code_base64", ""))), atraso);
+	}
+
+	// Id que o stub não criou: 404, como a API real
+	@GetMapping("/v1/payments/{id}")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> buscarPagamento(@PathVariable String id) {
+		return CompletableFuture.supplyAsync(() -> !referencias.containsKey(id)
+				? ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.<String, Object>of("message", "Payment not found"))
+				: ResponseEntity.ok(Map.of(
+						"id", id,
+						"status", "approved",
+						"external_reference", referencias.get(id),
+						"order", Map.of("id", id))), atraso);
+	}
+
+	@GetMapping("/merchant_orders/{id}")
+	public CompletableFuture<Map<String, Object>> buscarOrdem(@PathVariable String id) {
+		return CompletableFuture.supplyAsync(() -> Map.of(
+				"id", id,
+				"preference_id", id,
+				"external_reference", referencias.getOrDefault(id, ""),
+				"order_status", "paid"), atraso);
+	}
+}
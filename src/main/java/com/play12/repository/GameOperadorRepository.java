@@ -1,19 +1,43 @@
 package com.play12.repository;
 
+import com.play12.dto.GameOperadorDTO;
 import com.play12.entity.GameOperador;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GameOperadorRepository extends JpaRepository<GameOperador, Long> {
 	List<GameOperador> findByGameId(Long gameId);
 
+	@Query("SELECT new com.play12.dto.GameOperadorDTO(go.id, go.game.id, o.id, o.nomeCompleto, o.nickname, go.team, go.squad, o.pontos) "
+			+ "FROM GameOperador go JOIN go.operador o WHERE go.game.id = :gameId ORDER BY go.id")
+	List<GameOperadorDTO> findDTOsByGameId(@Param("gameId") Long gameId);
+
+	// Exportação: mesma projeção, lida por cursor em blocos de 500 linhas
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.play12.dto.GameOperadorDTO(go.id, go.game.id, o.id, o.nomeCompleto, o.nickname, go.team, go.squad, o.pontos) "
+			+ "FROM GameOperador go JOIN go.operador o WHERE go.game.id = :gameId ORDER BY go.id")
+	Stream<GameOperadorDTO> streamDTOsByGameId(@Param("gameId") Long gameId);
+
+	@Query("SELECT go.operador.id FROM GameOperador go WHERE go.game.id = :gameId AND go.operador.id IN :operadorIds")
+	List<Long> findOperadorIdsInscritos(@Param("gameId") Long gameId, @Param("operadorIds") Collection<Long> operadorIds);
+
 	Optional<GameOperador> findByGameIdAndOperadorId(Long gameId, Long operadorId);
 
 	boolean existsByGameIdAndOperadorId(Long gameId, Long operadorId);
 
-	void deleteByGameIdAndOperadorId(Long gameId, Long operadorId);
+	@Modifying
+	@Query("DELETE FROM GameOperador go WHERE go.game.id = :gameId AND go.operador.id = :operadorId")
+	int deleteByGameIdAndOperadorId(@Param("gameId") Long gameId, @Param("operadorId") Long operadorId);
 
 	long countByGameId(Long gameId);
 }
@@ -2,6 +2,9 @@ package com.play12.repository;
 
 import com.play12.entity.Game;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -9,4 +12,9 @@ import java.util.List;
 public interface GameRepository extends JpaRepository<Game, Long> {
 	List<Game> findByDataGreaterThanEqualOrderByDataAsc(LocalDate data);
 	Long countByDataGreaterThanEqual(LocalDate data);
+
+	// Incremento atômico no banco; também avança a versão para que saves concorrentes detectem a mudança
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Game g SET g.confirmados = g.confirmados + :delta, g.version = g.version + 1 WHERE g.id = :id")
+	int incrementarConfirmados(@Param("id") Long id, @Param("delta") int delta);
 }
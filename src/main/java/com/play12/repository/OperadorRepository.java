@@ -1,15 +1,29 @@
 package com.play12.repository;
 
+import com.play12.dto.OperadorDTO;
 import com.play12.entity.Operador;
+import com.play12.security.CredencialOperador;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OperadorRepository extends JpaRepository<Operador, Long> {
+public interface OperadorRepository extends JpaRepository<Operador, Long>, JpaSpecificationExecutor<Operador> {
 	Optional<Operador> findByEmail(String email);
 
+	Optional<CredencialOperador> findCredencialByEmail(String email);
+
 	Optional<Operador> findByNickname(String nickname);
 
 	boolean existsByEmail(String email);
@@ -17,4 +31,32 @@ public interface OperadorRepository extends JpaRepository<Operador, Long> {
 	boolean existsByNickname(String nickname);
 
 	Long countByPagoTrue();
+
+	@Query("SELECT o FROM Operador o LEFT JOIN FETCH o.squad")
+	List<Operador> findAllComSquad();
+
+	@Query("SELECT o FROM Operador o LEFT JOIN FETCH o.squad WHERE o.id IN :ids")
+	List<Operador> findAllComSquadByIdIn(@Param("ids") Collection<Long> ids);
+
+	// Exportação: projeção direta no DTO (nada fica no contexto de persistência), por cursor em blocos de 500
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.play12.dto.OperadorDTO(o.id, o.email, o.nickname, o.nomeCompleto, o.telefone, o.tipo, o.funcao, "
+			+ "s.id, s.nome, o.pago, o.totalJogos, o.pontos) FROM Operador o LEFT JOIN o.squad s ORDER BY o.id")
+	Stream<OperadorDTO> streamExportacao();
+
+	// CAST explícito: sem ele o Hibernate usa o columnDefinition "INTEGER DEFAULT 0" no cast do parâmetro
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Operador o SET o.pontos = o.pontos + CAST(:delta AS Integer) WHERE o.id IN :ids")
+	int somarPontos(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Operador o SET o.totalJogos = o.totalJogos + 1 "
+			+ "WHERE o.id IN (SELECT go.operador.id FROM GameOperador go WHERE go.game.id = :gameId)")
+	int incrementarJogosDoElenco(@Param("gameId") Long gameId);
+
+	// Só troca se o hash ainda é o lido no login: uma troca de senha concorrente prevalece
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Operador o SET o.senha = :novoHash WHERE o.id = :id AND o.senha = :hashAtual")
+	int substituirHashSenha(@Param("id") Long id, @Param("hashAtual") String hashAtual,
+			@Param("novoHash") String novoHash);
 }
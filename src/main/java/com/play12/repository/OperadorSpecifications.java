@@ -0,0 +1,40 @@
+package com.play12.repository;
+
+import com.play12.dto.OperadorFiltroDTO;
+import com.play12.entity.Operador;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OperadorSpecifications {
+
+	private OperadorSpecifications() {
+	}
+
+	public static Specification<Operador> comFiltro(OperadorFiltroDTO filtro) {
+		return (root, query, cb) -> {
+			// Fetch join do squad evita uma consulta extra por operador no mapeamento para DTO
+			if (!Long.class.equals(query.getResultType())) {
+				root.fetch("squad", JoinType.LEFT);
+			}
+
+			List<Predicate> predicates = new ArrayList<>();
+			if (filtro.getTipo() != null) {
+				predicates.add(cb.equal(root.get("tipo"), filtro.getTipo()));
+			}
+			if (filtro.getFuncao() != null) {
+				predicates.add(cb.equal(root.get("funcao"), filtro.getFuncao()));
+			}
+			if (filtro.getPago() != null) {
+				predicates.add(cb.equal(root.get("pago"), filtro.getPago()));
+			}
+			if (filtro.getSquadId() != null) {
+				predicates.add(cb.equal(root.get("squad").get("id"), filtro.getSquadId()));
+			}
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -1,16 +1,53 @@
 package com.play12.repository;
 
+import com.play12.dto.PaymentExportDTO;
+import com.play12.dto.PaymentStatusDTO;
 import com.play12.entity.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByTransactionId(String transactionId);
     Optional<Payment> findByMerchantOrderId(String merchantOrderId);
+    Optional<Payment> findByExternalReference(String externalReference);
     List<Payment> findByPayerEmail(String payerEmail);
     List<Payment> findByStatus(String status);
+
+    // Exportação: cursor só de avanço, lido em blocos de 500 linhas
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.play12.dto.PaymentExportDTO(p.transactionId, pr.id, p.amount, p.quantity, p.status, " +
+           "p.paymentMethod, p.payerEmail, p.payerName, p.merchantOrderId, p.createdAt, p.completedAt, p.expirationTime) " +
+           "FROM Payment p LEFT JOIN p.product pr ORDER BY p.id")
+    Stream<PaymentExportDTO> streamExportacao();
+
+    long countByStatusAndExpirationTimeBefore(String status, LocalDateTime agora);
+
+    @Query("SELECT new com.play12.dto.PaymentStatusDTO(p.transactionId, p.status, p.completedAt, p.expirationTime) " +
+           "FROM Payment p WHERE p.transactionId = :transactionId")
+    Optional<PaymentStatusDTO> findStatusByTransactionId(@Param("transactionId") String transactionId);
+
+    @Query("SELECT p.transactionId FROM Payment p WHERE p.status = :status AND p.expirationTime < :agora " +
+           "ORDER BY p.expirationTime")
+    List<String> findTransactionIdsVencidos(@Param("status") String status, @Param("agora") LocalDateTime agora, Limit limite);
+
+    // Revalida o status: um webhook pode ter concluído o pagamento entre a busca e o update
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :novoStatus " +
+           "WHERE p.transactionId IN :transactionIds AND p.status = :statusAtual")
+    int atualizarStatus(@Param("transactionIds") List<String> transactionIds,
+                        @Param("statusAtual") String statusAtual,
+                        @Param("novoStatus") String novoStatus);
 }
@@ -2,10 +2,23 @@ package com.play12.repository;
 
 import com.play12.entity.Squad;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface SquadRepository extends JpaRepository<Squad, Long> {
 	Optional<Squad> findByNome(String nome);
 	boolean existsByNome(String nome);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Squad s SET s.pontuacaoTotal = s.pontuacaoTotal + :delta WHERE s.id IN :ids")
+	int somarPontuacao(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Squad s SET s.jogosJogados = s.jogosJogados + 1 WHERE s.id IN "
+			+ "(SELECT o.squad.id FROM GameOperador go JOIN go.operador o WHERE go.game.id = :gameId)")
+	int incrementarJogosDoElenco(@Param("gameId") Long gameId);
 }
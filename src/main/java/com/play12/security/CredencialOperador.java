@@ -0,0 +1,5 @@
+package com.play12.security;
+
+// Projeção mínima para o login: id e hash da senha, sem carregar a entidade
+public record CredencialOperador(Long id, String senha) {
+}
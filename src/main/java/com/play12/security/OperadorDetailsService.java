@@ -4,28 +4,34 @@ import com.play12.entity.Operador;
 import com.play12.repository.OperadorRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class OperadorDetailsService implements UserDetailsService {
+public class OperadorDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final OperadorRepository operadorRepository;
-	private final PasswordEncoder passwordEncoder;
 
+	// Só leitura: hashes antigos ou com custo menor são refeitos depois da autenticação (updatePassword
+	// e LoginService), não a cada carga do usuário
 	@Override
+	@Transactional(readOnly = true)
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		Operador operador = operadorRepository.findByEmail(username)
 				.orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
-
-		// Migração automática: se a senha não estiver em BCrypt, reencoda
-		if (operador.getSenha() != null && !operador.getSenha().startsWith("$2")) {
-			operador.setSenha(passwordEncoder.encode(operador.getSenha()));
-			operadorRepository.save(operador);
-		}
 		return new OperadorUserDetails(operador);
 	}
+
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		OperadorUserDetails details = (OperadorUserDetails) user;
+		operadorRepository.substituirHashSenha(details.getOperador().getId(), details.getPassword(), newPassword);
+		details.getOperador().setSenha(newPassword);
+		return details;
+	}
 }
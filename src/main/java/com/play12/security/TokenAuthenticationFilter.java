@@ -0,0 +1,38 @@
+package com.play12.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Autentica pelo header "Authorization: Bearer <token>". Sem token, ou com token inválido, a requisição
+// segue anônima e as regras do SecurityConfig decidem. Registrado só na cadeia do Spring Security.
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+	private static final String PREFIXO = "Bearer ";
+
+	private final TokenService tokenService;
+
+	public TokenAuthenticationFilter(TokenService tokenService) {
+		this.tokenService = tokenService;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String header = request.getHeader("Authorization");
+		if (header != null && header.startsWith(PREFIXO)) {
+			tokenService.validar(header.substring(PREFIXO.length())).ifPresent(operador -> {
+				UsernamePasswordAuthenticationToken autenticacao =
+						new UsernamePasswordAuthenticationToken(operador, null, operador.authorities());
+				SecurityContextHolder.getContext().setAuthentication(autenticacao);
+			});
+		}
+		chain.doFilter(request, response);
+	}
+}
@@ -0,0 +1,17 @@
+package com.play12.security;
+
+import com.play12.enumeracao.FuncaoOperador;
+import com.play12.enumeracao.TipoOperador;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+// Identidade carregada no token: basta para autorizar sem consultar o banco
+public record TokenOperador(Long id, TipoOperador tipo, FuncaoOperador funcao) {
+
+	public List<GrantedAuthority> authorities() {
+		return List.of(new SimpleGrantedAuthority("ROLE_" + tipo.name()),
+				new SimpleGrantedAuthority("FUNCAO_" + funcao.name()));
+	}
+}
@@ -0,0 +1,122 @@
+package com.play12.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.play12.dto.OperadorDTO;
+import com.play12.enumeracao.FuncaoOperador;
+import com.play12.enumeracao.TipoOperador;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+// JWT compacto assinado com HMAC-SHA256 (HS256), emitido no login. A validação é só HMAC e parse do payload:
+// nenhuma consulta ao OperadorRepository nem BCrypt por requisição.
+@Slf4j
+@Service
+public class TokenService {
+
+	private static final String ALGORITMO = "HmacSHA256";
+	private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+	// Cabeçalho fixo: tokens com outro alg (inclusive "none") são recusados pela comparação
+	private static final String CABECALHO = BASE64.encodeToString(
+			"{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+	private final ObjectMapper objectMapper;
+	private final Mac prototipo;
+	private final Duration validade;
+
+	public TokenService(ObjectMapper objectMapper,
+						@Value("${app.security.jwt-secret:}") String segredo,
+						@Value("${app.security.jwt-ttl-minutes:720}") long validadeMinutos,
+						Environment environment) {
+		this.objectMapper = objectMapper;
+		this.validade = Duration.ofMinutes(validadeMinutos);
+
+		byte[] chave = segredo.getBytes(StandardCharsets.UTF_8);
+		if (segredo.isBlank()) {
+			// Sem segredo, cada instância assinaria com uma chave diferente: só o teste de carga aceita isso
+			if (!environment.acceptsProfiles(Profiles.of("perf"))) {
+				throw new IllegalStateException("app.security.jwt-secret (JWT_SECRET) não configurado");
+			}
+			log.warn("app.security.jwt-secret não configurado: usando chave aleatória, tokens não sobrevivem a um restart");
+			chave = new byte[32];
+			new SecureRandom().nextBytes(chave);
+		} else if (chave.length < 32) {
+			throw new IllegalStateException("app.security.jwt-secret precisa de pelo menos 32 bytes");
+		}
+		try {
+			this.prototipo = Mac.getInstance(ALGORITMO);
+			prototipo.init(new SecretKeySpec(chave, ALGORITMO));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC-SHA256 indisponível", e);
+		}
+	}
+
+	public String emitir(OperadorDTO operador) {
+		long agora = Instant.now().getEpochSecond();
+		// Só ids, enums e números: não há o que escapar no JSON
+		String payload = "{\"sub\":\"" + operador.getId()
+				+ "\",\"tipo\":\"" + operador.getTipo().name()
+				+ "\",\"funcao\":\"" + operador.getFuncao().name()
+				+ "\",\"iat\":" + agora
+				+ ",\"exp\":" + (agora + validade.toSeconds()) + "}";
+		String conteudo = CABECALHO + "." + BASE64.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+		return conteudo + "." + BASE64.encodeToString(assinar(conteudo));
+	}
+
+	public Optional<TokenOperador> validar(String token) {
+		int primeiroPonto = token.indexOf('.');
+		int ultimoPonto = token.lastIndexOf('.');
+		if (primeiroPonto <= 0 || ultimoPonto == primeiroPonto
+				|| !CABECALHO.equals(token.substring(0, primeiroPonto))) {
+			return Optional.empty();
+		}
+		try {
+			byte[] assinatura = BASE64_DECODER.decode(token.substring(ultimoPonto + 1));
+			if (!MessageDigest.isEqual(assinatura, assinar(token.substring(0, ultimoPonto)))) {
+				return Optional.empty();
+			}
+
+			JsonNode payload = objectMapper.readTree(BASE64_DECODER.decode(token.substring(primeiroPonto + 1, ultimoPonto)));
+			if (payload.path("exp").asLong() <= Instant.now().getEpochSecond()) {
+				return Optional.empty();
+			}
+			return Optional.of(new TokenOperador(
+					Long.valueOf(payload.path("sub").asText()),
+					TipoOperador.valueOf(payload.path("tipo").asText()),
+					FuncaoOperador.valueOf(payload.path("funcao").asText())));
+		} catch (Exception e) {
+			// Base64, JSON ou enum inválidos: token malformado
+			return Optional.empty();
+		}
+	}
+
+	public long getValidadeSegundos() {
+		return validade.toSeconds();
+	}
+
+	private byte[] assinar(String conteudo) {
+		try {
+			// Mac não é thread-safe; o clone reaproveita a chave já inicializada
+			Mac mac = (Mac) prototipo.clone();
+			return mac.doFinal(conteudo.getBytes(StandardCharsets.US_ASCII));
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package com.play12.service;
 
+import com.play12.config.CacheConfig;
 import com.play12.dto.CommunityPhotoDTO;
 import com.play12.entity.CommunityPhoto;
 import com.play12.repository.CommunityPhotoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class CommunityPhotoService {
 
 	private final CommunityPhotoRepository communityPhotoRepository;
 
+	@CacheEvict(cacheNames = CacheConfig.FOTOS, allEntries = true)
 	public CommunityPhotoDTO criar(CommunityPhotoDTO dto) {
 		CommunityPhoto photo = CommunityPhoto.builder()
 				.titulo(dto.getTitulo())
@@ -25,10 +29,13 @@ public class CommunityPhotoService {
 		return mapToDTO(communityPhotoRepository.save(photo));
 	}
 
+	@Transactional(readOnly = true)
+	@Cacheable(CacheConfig.FOTOS)
 	public List<CommunityPhotoDTO> listar() {
 		return communityPhotoRepository.findAll().stream().map(this::mapToDTO).collect(Collectors.toList());
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.FOTOS, allEntries = true)
 	public void deletar(Long id) {
 		if (!communityPhotoRepository.existsById(id)) {
 			throw new IllegalArgumentException("Foto não encontrada");
@@ -0,0 +1,131 @@
+package com.play12.service;
+
+import com.play12.dto.DashboardDTO;
+import com.play12.dto.GameDTO;
+import com.play12.event.JogoAlteradoEvent;
+import com.play12.event.OperadorAlteradoEvent;
+import com.play12.repository.OperadorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Snapshot do dashboard mantido a partir dos eventos de domínio; a leitura só devolve a referência atual
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+	public record Snapshot(DashboardDTO dashboard, String etag) {
+	}
+
+	private final OperadorRepository operadorRepository;
+	private final GameService gameService;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<Long, GameDTO> proximos = new ConcurrentHashMap<>();
+	private final String prefixoEtag = Long.toHexString(System.currentTimeMillis());
+	private long totalJogadores;
+	private long confirmados;
+	private long versao;
+	private volatile Snapshot snapshot;
+
+	public Snapshot obter() {
+		Snapshot atual = snapshot;
+		if (atual == null) {
+			recarregar();
+			atual = snapshot;
+		}
+		return atual;
+	}
+
+	// Carga completa na subida e na virada do dia, quando jogos de ontem deixam de ser "próximos"
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${app.dashboard.reload-cron:0 0 0 * * *}", zone = "America/Sao_Paulo")
+	public void recarregar() {
+		long total = operadorRepository.count();
+		long pagos = operadorRepository.countByPagoTrue();
+		List<GameDTO> jogos = gameService.listarProximos();
+
+		lock.lock();
+		try {
+			totalJogadores = total;
+			confirmados = pagos;
+			proximos.clear();
+			jogos.forEach(jogo -> proximos.put(jogo.getId(), jogo));
+			publicar();
+		} finally {
+			lock.unlock();
+		}
+		log.info("Dashboard recarregado: {} jogadores, {} próximos jogos", total, jogos.size());
+	}
+
+	@TransactionalEventListener
+	public void onOperadorAlterado(OperadorAlteradoEvent event) {
+		if (event.deltaTotal() == 0 && event.deltaPagos() == 0) {
+			return;
+		}
+		lock.lock();
+		try {
+			totalJogadores += event.deltaTotal();
+			confirmados += event.deltaPagos();
+			publicar();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// REQUIRES_NEW: depois do commit o EntityManager da transação original ainda está vinculado e devolveria o jogo antigo
+	@TransactionalEventListener
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onJogoAlterado(JogoAlteradoEvent event) {
+		GameDTO jogo = null;
+		if (!event.removido()) {
+			try {
+				jogo = gameService.buscarPorId(event.gameId());
+			} catch (IllegalArgumentException e) {
+				log.debug("Jogo {} não existe mais, removendo do dashboard", event.gameId());
+			}
+		}
+
+		lock.lock();
+		try {
+			if (jogo == null || jogo.getData().isBefore(LocalDate.now())) {
+				proximos.remove(event.gameId());
+			} else {
+				proximos.put(jogo.getId(), jogo);
+			}
+			publicar();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void publicar() {
+		LocalDate hoje = LocalDate.now();
+		List<GameDTO> jogos = proximos.values().stream()
+				.filter(jogo -> !jogo.getData().isBefore(hoje))
+				.sorted(Comparator.comparing(GameDTO::getData).thenComparing(GameDTO::getId))
+				.toList();
+
+		DashboardDTO dashboard = DashboardDTO.builder()
+				.totalJogadores(totalJogadores)
+				.confirmados(confirmados)
+				.jogosAgendados((long) jogos.size())
+				.proximosJogos(jogos)
+				.build();
+		snapshot = new Snapshot(dashboard, "\"" + prefixoEtag + "-" + (++versao) + "\"");
+	}
+}
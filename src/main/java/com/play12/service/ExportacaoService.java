@@ -0,0 +1,224 @@
+package com.play12.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.play12.dto.GameOperadorDTO;
+import com.play12.dto.OperadorDTO;
+import com.play12.dto.PaymentExportDTO;
+import com.play12.repository.GameOperadorRepository;
+import com.play12.repository.OperadorRepository;
+import com.play12.repository.PaymentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Exportação para admins em NDJSON ou CSV: as linhas vêm do banco por cursor (Stream com fetch size) e vão
+// direto para a resposta, uma a uma. A memória não depende do número de linhas exportadas.
+@Service
+@Transactional(readOnly = true)
+public class ExportacaoService {
+
+	public enum Formato {
+		NDJSON("application/x-ndjson", "ndjson"),
+		CSV("text/csv", "csv");
+
+		private final String contentType;
+		private final String extensao;
+
+		Formato(String contentType, String extensao) {
+			this.contentType = contentType;
+			this.extensao = extensao;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public String getExtensao() {
+			return extensao;
+		}
+
+		public static Formato de(String valor) {
+			try {
+				return valueOf(valor.toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Formato inválido: " + valor + ". Use ndjson ou csv");
+			}
+		}
+	}
+
+	private record Coluna<T>(String nome, Function<T, Object> valor) {
+	}
+
+	private static final List<Coluna<OperadorDTO>> COLUNAS_OPERADOR = List.of(
+			new Coluna<>("id", OperadorDTO::getId),
+			new Coluna<>("email", OperadorDTO::getEmail),
+			new Coluna<>("nickname", OperadorDTO::getNickname),
+			new Coluna<>("nomeCompleto", OperadorDTO::getNomeCompleto),
+			new Coluna<>("telefone", OperadorDTO::getTelefone),
+			new Coluna<>("tipo", OperadorDTO::getTipo),
+			new Coluna<>("funcao", OperadorDTO::getFuncao),
+			new Coluna<>("squadId", OperadorDTO::getSquadId),
+			new Coluna<>("squadNome", OperadorDTO::getSquadNome),
+			new Coluna<>("pago", OperadorDTO::getPago),
+			new Coluna<>("totalJogos", OperadorDTO::getTotalJogos),
+			new Coluna<>("pontos", OperadorDTO::getPontos));
+
+	private static final List<Coluna<GameOperadorDTO>> COLUNAS_ELENCO = List.of(
+			new Coluna<>("id", GameOperadorDTO::getId),
+			new Coluna<>("gameId", GameOperadorDTO::getGameId),
+			new Coluna<>("operadorId", GameOperadorDTO::getOperadorId),
+			new Coluna<>("nomeCompleto", GameOperadorDTO::getNomeCompleto),
+			new Coluna<>("nickname", GameOperadorDTO::getNickname),
+			new Coluna<>("team", GameOperadorDTO::getTeam),
+			new Coluna<>("squad", GameOperadorDTO::getSquad),
+			new Coluna<>("pontos", GameOperadorDTO::getPontos));
+
+	private static final List<Coluna<PaymentExportDTO>> COLUNAS_PAGAMENTO = List.of(
+			new Coluna<>("transactionId", PaymentExportDTO::getTransactionId),
+			new Coluna<>("productId", PaymentExportDTO::getProductId),
+			new Coluna<>("amount", PaymentExportDTO::getAmount),
+			new Coluna<>("quantity", PaymentExportDTO::getQuantity),
+			new Coluna<>("status", PaymentExportDTO::getStatus),
+			new Coluna<>("paymentMethod", PaymentExportDTO::getPaymentMethod),
+			new Coluna<>("payerEmail", PaymentExportDTO::getPayerEmail),
+			new Coluna<>("payerName", PaymentExportDTO::getPayerName),
+			new Coluna<>("merchantOrderId", PaymentExportDTO::getMerchantOrderId),
+			new Coluna<>("createdAt", PaymentExportDTO::getCreatedAt),
+			new Coluna<>("completedAt", PaymentExportDTO::getCompletedAt),
+			new Coluna<>("expirationTime", PaymentExportDTO::getExpirationTime));
+
+	// Linhas entre flushes: o Tomcat envia um chunk por flush, não um por linha
+	private static final int LINHAS_POR_FLUSH = 1_000;
+
+	private final OperadorRepository operadorRepository;
+	private final GameOperadorRepository gameOperadorRepository;
+	private final PaymentRepository paymentRepository;
+	private final ObjectMapper objectMapper;
+	private final ObjectWriter writerLinha;
+
+	public ExportacaoService(OperadorRepository operadorRepository,
+							 GameOperadorRepository gameOperadorRepository,
+							 PaymentRepository paymentRepository,
+							 ObjectMapper objectMapper) {
+		this.operadorRepository = operadorRepository;
+		this.gameOperadorRepository = gameOperadorRepository;
+		this.paymentRepository = paymentRepository;
+		this.objectMapper = objectMapper;
+		this.writerLinha = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	public void exportarOperadores(Formato formato, OutputStream saida) throws IOException {
+		try (Stream<OperadorDTO> linhas = operadorRepository.streamExportacao()) {
+			escrever(linhas, formato, COLUNAS_OPERADOR, saida);
+		}
+	}
+
+	public void exportarElenco(Long gameId, Formato formato, OutputStream saida) throws IOException {
+		try (Stream<GameOperadorDTO> linhas = gameOperadorRepository.streamDTOsByGameId(gameId)) {
+			escrever(linhas, formato, COLUNAS_ELENCO, saida);
+		}
+	}
+
+	public void exportarPagamentos(Formato formato, OutputStream saida) throws IOException {
+		try (Stream<PaymentExportDTO> linhas = paymentRepository.streamExportacao()) {
+			escrever(linhas, formato, COLUNAS_PAGAMENTO, saida);
+		}
+	}
+
+	private <T> void escrever(Stream<T> linhas, Formato formato, List<Coluna<T>> colunas, OutputStream saida)
+			throws IOException {
+		if (formato == Formato.NDJSON) {
+			escreverNdjson(linhas.iterator(), saida);
+		} else {
+			escreverCsv(linhas.iterator(), colunas, saida);
+		}
+	}
+
+	// Um objeto JSON por linha, serializado pelo mesmo ObjectMapper da API
+	private <T> void escreverNdjson(Iterator<T> linhas, OutputStream saida) throws IOException {
+		try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+			gerador.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+			gerador.setRootValueSeparator(new SerializedString("\n"));
+			int escritas = 0;
+			while (linhas.hasNext()) {
+				writerLinha.writeValue(gerador, linhas.next());
+				if (++escritas % LINHAS_POR_FLUSH == 0) {
+					gerador.flush();
+				}
+			}
+			if (escritas > 0) {
+				gerador.writeRaw('\n');
+			}
+		}
+	}
+
+	private <T> void escreverCsv(Iterator<T> linhas, List<Coluna<T>> colunas, OutputStream saida) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 16 * 1024);
+		for (int i = 0; i < colunas.size(); i++) {
+			writer.write(i == 0 ? "" : ",");
+			writer.write(colunas.get(i).nome());
+		}
+		writer.write("\r\n");
+
+		int escritas = 0;
+		while (linhas.hasNext()) {
+			T linha = linhas.next();
+			for (int i = 0; i < colunas.size(); i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				escreverCelula(writer, colunas.get(i).valor().apply(linha));
+			}
+			writer.write("\r\n");
+			if (++escritas % LINHAS_POR_FLUSH == 0) {
+				writer.flush();
+			}
+		}
+		writer.flush();
+	}
+
+	// RFC 4180: aspas quando há separador, aspas ou quebra de linha. Texto que começa com = + - @ ganha um
+	// apóstrofo para a planilha não interpretar como fórmula.
+	private static void escreverCelula(Writer writer, Object valor) throws IOException {
+		if (valor == null) {
+			return;
+		}
+		if (valor instanceof BigDecimal decimal) {
+			writer.write(decimal.toPlainString());
+			return;
+		}
+		if (valor instanceof Number || valor instanceof Boolean) {
+			writer.write(valor.toString());
+			return;
+		}
+		String texto = valor.toString();
+		if (!texto.isEmpty() && "=+-@".indexOf(texto.charAt(0)) >= 0) {
+			texto = "'" + texto;
+		}
+		boolean aspas = texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+				|| texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0;
+		if (!aspas) {
+			writer.write(texto);
+			return;
+		}
+		writer.write('"');
+		writer.write(texto.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
@@ -1,22 +1,32 @@
 package com.play12.service;
 
+import com.play12.config.CacheConfig;
 import com.play12.dto.AddPlayersToGameDTO;
 import com.play12.dto.GameDTO;
 import com.play12.dto.GameOperadorDTO;
 import com.play12.entity.Game;
 import com.play12.entity.GameOperador;
 import com.play12.entity.Operador;
+import com.play12.event.JogoAlteradoEvent;
 import com.play12.repository.GameOperadorRepository;
 import com.play12.repository.GameRepository;
 import com.play12.repository.OperadorRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,7 +38,10 @@ public class GameService {
 	private final GameRepository gameRepository;
 	private final GameOperadorRepository gameOperadorRepository;
 	private final OperadorRepository operadorRepository;
+	private final GameVagas gameVagas;
+	private final ApplicationEventPublisher eventPublisher;
 
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS}, allEntries = true)
 	public GameDTO criar(GameDTO dto) {
 		if (dto.getTitulo() == null || dto.getTitulo().isEmpty()) {
 			throw new IllegalArgumentException("Título do jogo é obrigatório");
@@ -45,6 +58,7 @@ public class GameService {
 		if (dto.getTipo() == null) {
 			throw new IllegalArgumentException("Tipo do jogo é obrigatório");
 		}
+		validarCapacidade(dto.getCapacidade());
 		
 		Game game = Game.builder()
 				.titulo(dto.getTitulo())
@@ -53,20 +67,35 @@ public class GameService {
 				.horario(dto.getHorario())
 				.local(dto.getLocal())
 				.confirmados(dto.getConfirmados() != null ? dto.getConfirmados() : 0)
+				.capacidade(dto.getCapacidade())
 				.status(dto.getStatus() != null ? dto.getStatus() : "Próximo")
 				.build();
-		return mapToDTO(gameRepository.save(game));
+		game = gameRepository.save(game);
+		eventPublisher.publishEvent(new JogoAlteradoEvent(game.getId(), false));
+		return mapToDTO(game);
 	}
 
+	@Transactional(readOnly = true)
+	@Cacheable(CacheConfig.JOGOS)
 	public List<GameDTO> listar() {
 		return gameRepository.findAll().stream().map(this::mapToDTO).collect(Collectors.toList());
 	}
 
+	@Transactional(readOnly = true)
+	@Cacheable(CacheConfig.JOGOS_PROXIMOS)
 	public List<GameDTO> listarProximos() {
 		return gameRepository.findByDataGreaterThanEqualOrderByDataAsc(LocalDate.now())
 				.stream().map(this::mapToDTO).collect(Collectors.toList());
 	}
 
+	@Transactional(readOnly = true)
+	public GameDTO buscarPorId(Long id) {
+		return gameRepository.findById(id)
+				.map(this::mapToDTO)
+				.orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
+	}
+
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS}, allEntries = true)
 	public GameDTO atualizar(Long id, GameDTO dto) {
 		Game game = gameRepository.findById(id)
 				.orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
@@ -76,19 +105,36 @@ public class GameService {
 		game.setHorario(dto.getHorario());
 		game.setLocal(dto.getLocal());
 		if (dto.getConfirmados() != null) {
+			gameVagas.ajustarConfirmados(id, game.getConfirmados() != null ? game.getConfirmados() : 0,
+					dto.getConfirmados());
 			game.setConfirmados(dto.getConfirmados());
 		}
 		if (dto.getStatus() != null) {
 			game.setStatus(dto.getStatus());
 		}
-		return mapToDTO(gameRepository.save(game));
+		// Substituída como os demais campos do PUT: null remove o limite
+		validarCapacidade(dto.getCapacidade());
+		game.setCapacidade(dto.getCapacidade());
+		gameVagas.definirCapacidade(id, dto.getCapacidade());
+		game = gameRepository.save(game);
+		eventPublisher.publishEvent(new JogoAlteradoEvent(id, false));
+		return mapToDTO(game);
 	}
 
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS}, allEntries = true)
 	public void deletar(Long id) {
 		if (!gameRepository.existsById(id)) {
 			throw new IllegalArgumentException("Jogo não encontrado");
 		}
 		gameRepository.deleteById(id);
+		gameVagas.remover(id);
+		eventPublisher.publishEvent(new JogoAlteradoEvent(id, true));
+	}
+
+	private void validarCapacidade(Integer capacidade) {
+		if (capacidade != null && capacidade <= 0) {
+			throw new IllegalArgumentException("Capacidade do jogo deve ser maior que zero");
+		}
 	}
 
 	private GameDTO mapToDTO(Game game) {
@@ -100,19 +146,20 @@ public class GameService {
 				.horario(game.getHorario())
 				.local(game.getLocal())
 				.confirmados(game.getConfirmados())
+				.capacidade(game.getCapacidade())
 				.status(game.getStatus())
 				.build();
 	}
 
 	// ===== Game-Operador methods =====
 
+	@Transactional(readOnly = true)
 	public List<GameOperadorDTO> listarOperadoresDoJogo(Long gameId) {
-		return gameOperadorRepository.findByGameId(gameId)
-				.stream()
-				.map(this::mapToGameOperadorDTO)
-				.collect(Collectors.toList());
+		// Projeção direta no DTO: um único SELECT, sem carregar game/operador por linha
+		return gameOperadorRepository.findDTOsByGameId(gameId);
 	}
 
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS}, allEntries = true)
 	public List<GameOperadorDTO> adicionarOperadores(Long gameId, AddPlayersToGameDTO dto) {
 		Game game = gameRepository.findById(gameId)
 				.orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
@@ -121,50 +168,85 @@ public class GameService {
 			throw new IllegalArgumentException("Nenhum jogador selecionado");
 		}
 
-		List<GameOperador> added = new ArrayList<>();
-		for (AddPlayersToGameDTO.PlayerEntry entry : dto.getPlayers()) {
-			if (gameOperadorRepository.existsByGameIdAndOperadorId(gameId, entry.getOperadorId())) {
+		List<GameOperador> novos = montarInscricoes(game, dto.getPlayers());
+		// Reserva devolvida pelo GameVagas se esta transação não for confirmada
+		if (!gameVagas.reservarNaTransacao(gameId, novos.size())) {
+			throw new IllegalArgumentException("Jogo lotado: restam " + gameVagas.disponiveis(gameId) + " vaga(s)");
+		}
+		gravarInscricoes(gameId, novos);
+
+		return novos.stream().map(this::mapToGameOperadorDTO).collect(Collectors.toList());
+	}
+
+	// Grava inscrições cujas vagas já foram reservadas no GameVagas; retorna quantas foram inseridas
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS}, allEntries = true)
+	public int confirmarReservadas(Long gameId, List<AddPlayersToGameDTO.PlayerEntry> players) {
+		Game game = gameRepository.findById(gameId)
+				.orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
+		List<GameOperador> novos = montarInscricoes(game, players);
+		gravarInscricoes(gameId, novos);
+		return novos.size();
+	}
+
+	private List<GameOperador> montarInscricoes(Game game, List<AddPlayersToGameDTO.PlayerEntry> players) {
+		Long gameId = game.getId();
+
+		// Uma consulta para inscrições existentes e uma para os operadores, depois insert em batch
+		Set<Long> operadorIds = players.stream()
+				.map(AddPlayersToGameDTO.PlayerEntry::getOperadorId)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		Set<Long> jaInscritos = new HashSet<>(gameOperadorRepository.findOperadorIdsInscritos(gameId, operadorIds));
+		Map<Long, Operador> operadores = operadorRepository.findAllById(operadorIds).stream()
+				.collect(Collectors.toMap(Operador::getId, Function.identity()));
+
+		List<GameOperador> novos = new ArrayList<>();
+		for (AddPlayersToGameDTO.PlayerEntry entry : players) {
+			if (!jaInscritos.add(entry.getOperadorId())) {
 				log.info("Operador {} já está no jogo {}, pulando", entry.getOperadorId(), gameId);
 				continue;
 			}
 
-			Operador operador = operadorRepository.findById(entry.getOperadorId())
-					.orElseThrow(() -> new IllegalArgumentException("Operador " + entry.getOperadorId() + " não encontrado"));
+			Operador operador = operadores.get(entry.getOperadorId());
+			if (operador == null) {
+				throw new IllegalArgumentException("Operador " + entry.getOperadorId() + " não encontrado");
+			}
 
-			GameOperador go = GameOperador.builder()
+			novos.add(GameOperador.builder()
 					.game(game)
 					.operador(operador)
 					.team(entry.getTeam() != null ? entry.getTeam() : "BLUFOR")
 					.squad(entry.getSquad() != null ? entry.getSquad() : "")
-					.build();
+					.build());
+		}
+		return novos;
+	}
 
-			added.add(gameOperadorRepository.save(go));
+	private void gravarInscricoes(Long gameId, List<GameOperador> novos) {
+		if (novos.isEmpty()) {
+			return;
 		}
+		gameOperadorRepository.saveAll(novos);
 
 		// Atualizar contador de confirmados
-		long count = gameOperadorRepository.countByGameId(gameId);
-		game.setConfirmados((int) count);
-		gameRepository.save(game);
-
-		return added.stream().map(this::mapToGameOperadorDTO).collect(Collectors.toList());
+		gameRepository.incrementarConfirmados(gameId, novos.size());
+		eventPublisher.publishEvent(new JogoAlteradoEvent(gameId, false));
 	}
 
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS}, allEntries = true)
 	public void removerOperadorDoJogo(Long gameId, Long operadorId) {
-		if (!gameOperadorRepository.existsByGameIdAndOperadorId(gameId, operadorId)) {
+		int removidos = gameOperadorRepository.deleteByGameIdAndOperadorId(gameId, operadorId);
+		if (removidos == 0) {
 			throw new IllegalArgumentException("Operador não está associado a este jogo");
 		}
-		gameOperadorRepository.deleteByGameIdAndOperadorId(gameId, operadorId);
 
-		// Atualizar contador de confirmados
-		Game game = gameRepository.findById(gameId).orElse(null);
-		if (game != null) {
-			long count = gameOperadorRepository.countByGameId(gameId);
-			game.setConfirmados((int) count);
-			gameRepository.save(game);
-		}
+		// Atualizar contador de confirmados e liberar a vaga para a lista de espera (depois do commit)
+		gameRepository.incrementarConfirmados(gameId, -removidos);
+		gameVagas.liberar(gameId, removidos);
+		eventPublisher.publishEvent(new JogoAlteradoEvent(gameId, false));
 	}
 
-	private GameOperadorDTO mapToGameOperadorDTO(GameOperador go) {
+	// Sem private: medido pelos benchmarks JMH (src/jmh/java)
+	GameOperadorDTO mapToGameOperadorDTO(GameOperador go) {
 		return GameOperadorDTO.builder()
 				.id(go.getId())
 				.gameId(go.getGame().getId())
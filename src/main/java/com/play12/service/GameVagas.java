@@ -0,0 +1,208 @@
+package com.play12.service;
+
+import com.play12.dto.AddPlayersToGameDTO;
+import com.play12.entity.Game;
+import com.play12.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Vagas por jogo em memória: reserva por CAS num contador por jogo, sem lock e sem tocar
+// na linha de games. Inscrições aceitas vão para uma fila gravada em lote pelo InscricaoService.
+// O estado vale para uma única instância da aplicação. Inscrições confirmadas são gravadas no
+// desligamento (InscricaoService.encerrar); a lista de espera não é persistida e se perde num
+// restart ou deploy: é por ordem de chegada, sem garantia.
+// Chamadas dentro de uma transação (GameService) só mexem no contador depois do commit: um rollback
+// não libera vaga, não promove da lista de espera nem muda a capacidade. Reserva é a exceção, feita
+// na hora para barrar o excesso e devolvida se a transação não confirmar.
+@Component
+@RequiredArgsConstructor
+public class GameVagas {
+
+	private final GameRepository gameRepository;
+
+	private final Map<Long, Vagas> vagasPorJogo = new ConcurrentHashMap<>();
+	private final Queue<InscricaoPendente> pendentes = new ConcurrentLinkedQueue<>();
+
+	public record InscricaoPendente(Long gameId, AddPlayersToGameDTO.PlayerEntry entry) {
+	}
+
+	private static final class Vagas {
+		private volatile int capacidade;
+		private final AtomicInteger ocupadas;
+		private final Queue<AddPlayersToGameDTO.PlayerEntry> espera = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger tamanhoEspera = new AtomicInteger();
+		// Operadores aceitos e ainda não gravados (pendentes ou na espera): barra a inscrição em dobro
+		private final Set<Long> naFila = ConcurrentHashMap.newKeySet();
+
+		private Vagas(int capacidade, int ocupadas) {
+			this.capacidade = capacidade;
+			this.ocupadas = new AtomicInteger(ocupadas);
+		}
+	}
+
+	public boolean reservar(Long gameId, int quantidade) {
+		if (quantidade <= 0) {
+			return true;
+		}
+		Vagas vagas = obter(gameId);
+		int atual;
+		do {
+			atual = vagas.ocupadas.get();
+			if (atual + quantidade > vagas.capacidade) {
+				return false;
+			}
+		} while (!vagas.ocupadas.compareAndSet(atual, atual + quantidade));
+		return true;
+	}
+
+	// Reserva feita dentro da transação do GameService, devolvida se ela não for confirmada
+	public boolean reservarNaTransacao(Long gameId, int quantidade) {
+		if (!reservar(gameId, quantidade)) {
+			return false;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						ajustar(gameId, -quantidade);
+					}
+				}
+			});
+		}
+		return true;
+	}
+
+	public void liberar(Long gameId, int quantidade) {
+		if (quantidade > 0) {
+			aposCommit(() -> ajustar(gameId, -quantidade));
+		}
+	}
+
+	// confirmados do jogo mudou por fora das inscrições (edição do admin): o contador acompanha a diferença
+	// e mantém as reservas ainda não gravadas
+	public void ajustarConfirmados(Long gameId, int anterior, int atual) {
+		if (anterior != atual) {
+			aposCommit(() -> ajustar(gameId, atual - anterior));
+		}
+	}
+
+	public int disponiveis(Long gameId) {
+		Vagas vagas = obter(gameId);
+		return Math.max(vagas.capacidade - vagas.ocupadas.get(), 0);
+	}
+
+	// false quando o operador já tem inscrição aceita esperando gravação ou vaga neste jogo
+	public boolean registrar(Long gameId, Long operadorId) {
+		return obter(gameId).naFila.add(operadorId);
+	}
+
+	public void confirmar(Long gameId, AddPlayersToGameDTO.PlayerEntry entry) {
+		pendentes.offer(new InscricaoPendente(gameId, entry));
+	}
+
+	public int entrarNaEspera(Long gameId, AddPlayersToGameDTO.PlayerEntry entry) {
+		Vagas vagas = obter(gameId);
+		vagas.espera.offer(entry);
+		int posicao = vagas.tamanhoEspera.incrementAndGet();
+		// Uma vaga pode ter sido liberada entre a reserva recusada e a entrada na fila
+		promover(gameId, vagas);
+		return posicao;
+	}
+
+	public List<InscricaoPendente> drenarPendentes(int limite) {
+		List<InscricaoPendente> lote = new ArrayList<>();
+		InscricaoPendente pendente;
+		while (lote.size() < limite && (pendente = pendentes.poll()) != null) {
+			lote.add(pendente);
+			// Daqui em diante a duplicidade é barrada pela consulta ao game_operadores e pela unique key
+			Vagas vagas = vagasPorJogo.get(pendente.gameId());
+			if (vagas != null) {
+				vagas.naFila.remove(pendente.entry().getOperadorId());
+			}
+		}
+		return lote;
+	}
+
+	public int totalNaEspera() {
+		return vagasPorJogo.values().stream().mapToInt(vagas -> vagas.tamanhoEspera.get()).sum();
+	}
+
+	// null = sem limite
+	public void definirCapacidade(Long gameId, Integer capacidade) {
+		aposCommit(() -> {
+			Vagas vagas = vagasPorJogo.get(gameId);
+			if (vagas != null) {
+				vagas.capacidade = capacidade != null ? capacidade : Integer.MAX_VALUE;
+				promover(gameId, vagas);
+			}
+		});
+	}
+
+	public void remover(Long gameId) {
+		aposCommit(() -> vagasPorJogo.remove(gameId));
+	}
+
+	private void ajustar(Long gameId, int delta) {
+		Vagas vagas = vagasPorJogo.get(gameId);
+		if (vagas == null) {
+			// Ainda não carregado: a primeira carga já lê o confirmados gravado
+			return;
+		}
+		vagas.ocupadas.addAndGet(delta);
+		if (delta < 0) {
+			promover(gameId, vagas);
+		}
+	}
+
+	private static void aposCommit(Runnable acao) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					acao.run();
+				}
+			});
+		} else {
+			acao.run();
+		}
+	}
+
+	// Consulta fora do computeIfAbsent: o lock do mapa não fica preso durante o JDBC (e não fixa threads
+	// virtuais no carrier). Duas cargas simultâneas do mesmo jogo ficam com a primeira registrada.
+	private Vagas obter(Long gameId) {
+		Vagas vagas = vagasPorJogo.get(gameId);
+		if (vagas != null) {
+			return vagas;
+		}
+		Game game = gameRepository.findById(gameId)
+				.orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
+		int capacidade = game.getCapacidade() != null ? game.getCapacidade() : Integer.MAX_VALUE;
+		Vagas carregadas = new Vagas(capacidade, game.getConfirmados() != null ? game.getConfirmados() : 0);
+		vagas = vagasPorJogo.putIfAbsent(gameId, carregadas);
+		return vagas != null ? vagas : carregadas;
+	}
+
+	private void promover(Long gameId, Vagas vagas) {
+		while (!vagas.espera.isEmpty() && reservar(gameId, 1)) {
+			AddPlayersToGameDTO.PlayerEntry entry = vagas.espera.poll();
+			if (entry == null) {
+				vagas.ocupadas.decrementAndGet();
+				return;
+			}
+			vagas.tamanhoEspera.decrementAndGet();
+			confirmar(gameId, entry);
+		}
+	}
+}
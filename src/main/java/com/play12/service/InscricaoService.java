@@ -0,0 +1,102 @@
+package com.play12.service;
+
+import com.play12.dto.AddPlayersToGameDTO;
+import com.play12.dto.InscricaoResultadoDTO;
+import com.play12.repository.GameOperadorRepository;
+import com.play12.repository.OperadorRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InscricaoService {
+
+	private static final int TAMANHO_LOTE = 500;
+
+	private final GameVagas gameVagas;
+	private final GameService gameService;
+	private final OperadorRepository operadorRepository;
+	private final GameOperadorRepository gameOperadorRepository;
+
+	public InscricaoResultadoDTO inscrever(Long gameId, AddPlayersToGameDTO.PlayerEntry entry) {
+		if (entry == null || entry.getOperadorId() == null) {
+			throw new IllegalArgumentException("Operador é obrigatório");
+		}
+		// Validado antes da reserva: o cliente recebe o erro em vez de uma confirmação que a gravação em
+		// lote descartaria depois
+		if (!operadorRepository.existsById(entry.getOperadorId())) {
+			throw new IllegalArgumentException("Operador não encontrado");
+		}
+		if (gameOperadorRepository.existsByGameIdAndOperadorId(gameId, entry.getOperadorId())) {
+			throw new IllegalArgumentException("Operador já inscrito neste jogo");
+		}
+		if (!gameVagas.registrar(gameId, entry.getOperadorId())) {
+			throw new IllegalArgumentException("Inscrição do operador já recebida para este jogo");
+		}
+
+		if (gameVagas.reservar(gameId, 1)) {
+			gameVagas.confirmar(gameId, entry);
+			return InscricaoResultadoDTO.builder()
+					.gameId(gameId)
+					.operadorId(entry.getOperadorId())
+					.status("CONFIRMADO")
+					.build();
+		}
+
+		int posicao = gameVagas.entrarNaEspera(gameId, entry);
+		return InscricaoResultadoDTO.builder()
+				.gameId(gameId)
+				.operadorId(entry.getOperadorId())
+				.status("LISTA_DE_ESPERA")
+				.posicaoEspera(posicao)
+				.build();
+	}
+
+	@Scheduled(fixedDelayString = "${app.inscricao.flush-interval-ms:200}")
+	public void gravarPendentes() {
+		List<GameVagas.InscricaoPendente> lote;
+		while (!(lote = gameVagas.drenarPendentes(TAMANHO_LOTE)).isEmpty()) {
+			Map<Long, List<AddPlayersToGameDTO.PlayerEntry>> porJogo = lote.stream()
+					.collect(Collectors.groupingBy(GameVagas.InscricaoPendente::gameId, LinkedHashMap::new,
+							Collectors.mapping(GameVagas.InscricaoPendente::entry, Collectors.toList())));
+			porJogo.forEach(this::gravarLote);
+		}
+	}
+
+	// O Tomcat já parou de aceitar requisições (fase de stop) e o banco ainda está de pé: nenhuma
+	// inscrição confirmada fica só na memória
+	@PreDestroy
+	public void encerrar() {
+		gravarPendentes();
+		int naEspera = gameVagas.totalNaEspera();
+		if (naEspera > 0) {
+			log.warn("Desligando com {} operador(es) na lista de espera, que não é persistida", naEspera);
+		}
+	}
+
+	private void gravarLote(Long gameId, List<AddPlayersToGameDTO.PlayerEntry> entries) {
+		try {
+			int inseridos = gameService.confirmarReservadas(gameId, entries);
+			// Duplicadas não ocupam vaga
+			gameVagas.liberar(gameId, entries.size() - inseridos);
+		} catch (RuntimeException e) {
+			if (entries.size() == 1) {
+				log.warn("Inscrição do operador {} no jogo {} descartada: {}",
+						entries.get(0).getOperadorId(), gameId, e.getMessage());
+				gameVagas.liberar(gameId, 1);
+				return;
+			}
+			// Uma entrada inválida não deve derrubar o lote inteiro
+			entries.forEach(entry -> gravarLote(gameId, List.of(entry)));
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.play12.service;
+
+import java.io.Serial;
+
+// Fila do pool de verificação de senha (LoginService) cheia: o login pode ser repetido em instantes
+public class LoginOcupadoException extends RuntimeException {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	public LoginOcupadoException() {
+		super("Muitos logins simultâneos, tente novamente em instantes");
+	}
+}
@@ -0,0 +1,141 @@
+package com.play12.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.play12.dto.LoginDTO;
+import com.play12.dto.OperadorDTO;
+import com.play12.repository.OperadorRepository;
+import com.play12.security.CredencialOperador;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Login sem BCrypt na thread do Tomcat: a credencial (id, hash) vem de um cache curto por email e a
+// verificação roda num pool limitado. Hash com custo abaixo do configurado é refeito depois, no mesmo pool.
+@Slf4j
+@Service
+public class LoginService {
+
+	private final OperadorRepository operadorRepository;
+	private final OperadorService operadorService;
+	private final PasswordEncoder passwordEncoder;
+	private final int maxTentativasPorMinuto;
+
+	private final ThreadPoolExecutor hashing;
+	private final Cache<String, CredencialOperador> credenciais;
+	private final Cache<String, AtomicInteger> tentativasPorIp = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMinutes(1))
+			.maximumSize(100_000)
+			.build();
+
+	public LoginService(OperadorRepository operadorRepository,
+						OperadorService operadorService,
+						PasswordEncoder passwordEncoder,
+						MeterRegistry meterRegistry,
+						@Value("${app.login.hash-threads:0}") int threads,
+						@Value("${app.login.hash-queue:256}") int capacidadeFila,
+						@Value("${app.login.cache-ttl-seconds:300}") long ttlCredencialSegundos,
+						@Value("${app.login.max-attempts-per-minute:20}") int maxTentativasPorMinuto) {
+		this.operadorRepository = operadorRepository;
+		this.operadorService = operadorService;
+		this.passwordEncoder = passwordEncoder;
+		this.maxTentativasPorMinuto = maxTentativasPorMinuto;
+
+		// 0 = um thread por núcleo: BCrypt é só CPU. Fila cheia recusa o login em vez de enfileirar sem limite
+		int quantidade = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.hashing = new ThreadPoolExecutor(quantidade, quantidade, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(capacidadeFila), runnable -> {
+					Thread thread = new Thread(runnable, "login-hash");
+					thread.setDaemon(true);
+					return thread;
+				});
+		ExecutorServiceMetrics.monitor(meterRegistry, hashing, "login.hash");
+
+		this.credenciais = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(ttlCredencialSegundos))
+				.maximumSize(10_000)
+				.build();
+	}
+
+	// Janela fixa de um minuto por IP, contada a partir da primeira tentativa
+	public boolean permitirTentativa(String ip) {
+		return tentativasPorIp.get(ip, chave -> new AtomicInteger()).incrementAndGet() <= maxTentativasPorMinuto;
+	}
+
+	public CompletableFuture<OperadorDTO> login(LoginDTO dto) {
+		log.info("Login do operador: {}", dto.getEmail());
+
+		CredencialOperador credencial = buscarCredencial(dto.getEmail());
+		if (credencial == null) {
+			return CompletableFuture.failedFuture(new IllegalArgumentException("Usuário não encontrado"));
+		}
+		try {
+			return CompletableFuture.supplyAsync(() -> autenticar(dto, credencial), hashing);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(new LoginOcupadoException());
+		}
+	}
+
+	// Carga fora do cache.get(chave, loader), que faria o JDBC dentro do lock do mapa
+	private CredencialOperador buscarCredencial(String email) {
+		CredencialOperador credencial = credenciais.getIfPresent(email);
+		if (credencial == null) {
+			credencial = operadorRepository.findCredencialByEmail(email).orElse(null);
+			if (credencial != null) {
+				credenciais.put(email, credencial);
+			}
+		}
+		return credencial;
+	}
+
+	private OperadorDTO autenticar(LoginDTO dto, CredencialOperador credencial) {
+		String hash = credencial.senha();
+		// Senhas antigas gravadas sem BCrypt: comparação em tempo constante e rehash em seguida
+		boolean legado = hash != null && !hash.startsWith("$2");
+		boolean confere = legado
+				? MessageDigest.isEqual(dto.getSenha().getBytes(StandardCharsets.UTF_8), hash.getBytes(StandardCharsets.UTF_8))
+				: hash != null && passwordEncoder.matches(dto.getSenha(), hash);
+		if (!confere) {
+			// O hash em cache pode ser anterior a uma troca de senha
+			credenciais.invalidate(dto.getEmail());
+			throw new IllegalArgumentException("Senha incorreta");
+		}
+
+		if (legado || passwordEncoder.upgradeEncoding(hash)) {
+			refazerHash(dto.getEmail(), credencial, dto.getSenha());
+		}
+		return operadorService.buscarPorId(credencial.id());
+	}
+
+	private void refazerHash(String email, CredencialOperador credencial, String senha) {
+		try {
+			hashing.execute(() -> {
+				if (operadorService.substituirHashSenha(credencial.id(), credencial.senha(), passwordEncoder.encode(senha))) {
+					credenciais.invalidate(email);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// Pool ocupado: o rehash fica para o próximo login
+			log.debug("Rehash da senha de {} adiado", email);
+		}
+	}
+
+	@PreDestroy
+	public void encerrar() {
+		hashing.shutdownNow();
+	}
+}
@@ -0,0 +1,26 @@
+package com.play12.service;
+
+import java.io.Serial;
+
+// Resposta fora do 2xx da API do Mercado Pago. 4xx (exceto 408 e 429) não muda repetindo a chamada:
+// id inexistente, credencial inválida, requisição malformada
+public class MercadoPagoApiException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    public MercadoPagoApiException(int status) {
+        super("Erro na API Mercado Pago: " + status);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isDefinitivo() {
+        return status >= 400 && status < 500 && status != 408 && status != 429;
+    }
+}
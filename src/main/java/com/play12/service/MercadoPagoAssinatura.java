@@ -0,0 +1,81 @@
+package com.play12.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+
+// Header x-signature dos webhooks do Mercado Pago ("ts=...,v1=..."): v1 é o HMAC-SHA256 em hex, com a
+// chave secreta do painel, do manifesto "id:<data.id>;request-id:<x-request-id>;ts:<ts>;".
+// Sem mercadopago.webhook-secret nenhuma notificação é aceita, exceto no perfil perf (stub local).
+@Slf4j
+@Component
+public class MercadoPagoAssinatura {
+
+    private static final String ALGORITMO = "HmacSHA256";
+
+    private final Mac prototipo;
+    private final boolean dispensada;
+
+    public MercadoPagoAssinatura(@Value("${mercadopago.webhook-secret:}") String segredo, Environment environment) {
+        this.dispensada = segredo.isBlank() && environment.acceptsProfiles(Profiles.of("perf"));
+        if (segredo.isBlank()) {
+            this.prototipo = null;
+            if (!dispensada) {
+                log.warn("mercadopago.webhook-secret não configurado: webhooks do Mercado Pago serão recusados");
+            }
+            return;
+        }
+        try {
+            this.prototipo = Mac.getInstance(ALGORITMO);
+            prototipo.init(new SecretKeySpec(segredo.getBytes(StandardCharsets.UTF_8), ALGORITMO));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponível", e);
+        }
+    }
+
+    public boolean valida(String recursoId, String assinatura, String requestId) {
+        if (dispensada) {
+            return true;
+        }
+        if (prototipo == null || recursoId == null || assinatura == null || requestId == null) {
+            return false;
+        }
+        String ts = null;
+        String v1 = null;
+        for (String parte : assinatura.split(",")) {
+            String[] chaveValor = parte.trim().split("=", 2);
+            if (chaveValor.length == 2 && "ts".equals(chaveValor[0])) {
+                ts = chaveValor[1];
+            } else if (chaveValor.length == 2 && "v1".equals(chaveValor[0])) {
+                v1 = chaveValor[1];
+            }
+        }
+        if (ts == null || v1 == null) {
+            return false;
+        }
+        // Ids alfanuméricos entram em minúsculas no manifesto
+        String manifesto = "id:" + recursoId.toLowerCase(Locale.ROOT) + ";request-id:" + requestId + ";ts:" + ts + ";";
+        byte[] esperado = HexFormat.of().formatHex(assinar(manifesto)).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(esperado, v1.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private byte[] assinar(String manifesto) {
+        try {
+            // Mac não é thread-safe: clone do protótipo já inicializado
+            Mac mac = (Mac) prototipo.clone();
+            return mac.doFinal(manifesto.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC-SHA256 sem suporte a clone", e);
+        }
+    }
+}
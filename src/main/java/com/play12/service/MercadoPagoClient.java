@@ -0,0 +1,155 @@
+package com.play12.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.play12.config.MercadoPagoConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+@Component
+@Slf4j
+public class MercadoPagoClient {
+
+    // Segmentos numéricos são ids: viram {id} na tag para não multiplicar séries
+    private static final Pattern SEGMENTO_ID = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MercadoPagoConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+
+    // Respostas lidas direto dos bytes para records com só os campos usados; o resto do JSON é pulado
+    // pelo parser, sem montar árvore de JsonNode
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Preferencia(String id,
+                              @JsonProperty("init_point") String initPoint,
+                              @JsonProperty("point_of_interaction") PontoInteracao pontoInteracao) {
+
+        public String qrCode() {
+            return pontoInteracao != null && pontoInteracao.transactionData() != null
+                    ? pontoInteracao.transactionData().qrCode() : null;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record PontoInteracao(@JsonProperty("transaction_data") DadosTransacao transactionData) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record DadosTransacao(@JsonProperty("qr_code") String qrCode) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Pagamento(String status, Referencia order,
+                            @JsonProperty("external_reference") String externalReference) {
+
+        public String orderId() {
+            return order != null ? order.id() : null;
+        }
+    }
+
+    // O id vem como número na API; o Jackson converte para String
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Referencia(String id) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record OrdemComercial(@JsonProperty("preference_id") String preferenceId,
+                                 @JsonProperty("order_status") String orderStatus,
+                                 @JsonProperty("external_reference") String externalReference) {
+    }
+
+    public MercadoPagoClient(MercadoPagoConfig config, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .build();
+        this.bulkhead = new Semaphore(config.getMaxConcurrentRequests());
+    }
+
+    // Chamada não bloqueante: a thread da requisição não espera a resposta do Mercado Pago
+    public <T> CompletableFuture<T> post(String path, Object corpo, Class<T> tipoResposta) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(corpo);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Erro ao montar requisição: " + e.getMessage()));
+        }
+        return enviar(novaRequisicao(path)
+                .header("Content-Type", "application/json")
+                .header("X-Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build())
+                .thenApply(resposta -> ler(resposta, tipoResposta));
+    }
+
+    public <T> CompletableFuture<T> get(String path, Class<T> tipoResposta) {
+        return enviar(novaRequisicao(path).GET().build())
+                .thenApply(resposta -> ler(resposta, tipoResposta));
+    }
+
+    private <T> T ler(byte[] resposta, Class<T> tipo) {
+        try {
+            return objectMapper.readValue(resposta, tipo);
+        } catch (IOException e) {
+            throw new RuntimeException("Resposta inválida do Mercado Pago: " + e.getMessage());
+        }
+    }
+
+    private HttpRequest.Builder novaRequisicao(String path) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(config.getBaseUrl() + path))
+                .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                .header("Authorization", "Bearer " + config.getAccessToken());
+    }
+
+    private CompletableFuture<byte[]> enviar(HttpRequest request) {
+        String recurso = SEGMENTO_ID.matcher(request.uri().getPath()).replaceAll("/{id}");
+        // tryAcquire sem espera: a thread de quem chama (Tomcat ou worker) nunca fica parada no bulkhead
+        if (!bulkhead.tryAcquire()) {
+            meterRegistry.counter("mercadopago.requisicoes.recusadas", "metodo", request.method(), "recurso", recurso)
+                    .increment();
+            return CompletableFuture.failedFuture(new MercadoPagoOcupadoException());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    bulkhead.release();
+                    sample.stop(Timer.builder("mercadopago.requisicoes")
+                            .description("Latência das chamadas à API do Mercado Pago")
+                            .tag("metodo", request.method())
+                            .tag("recurso", recurso)
+                            .tag("status", response != null ? String.valueOf(response.statusCode()) : "erro")
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+                })
+                .thenApply(response -> {
+                    if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                        return response.body();
+                    }
+                    log.error("Mercado Pago API error: {} - {}", response.statusCode(),
+                            new String(response.body(), StandardCharsets.UTF_8));
+                    throw new MercadoPagoApiException(response.statusCode());
+                });
+    }
+}
@@ -0,0 +1,15 @@
+package com.play12.service;
+
+import java.io.Serial;
+
+// Bulkhead do MercadoPagoClient sem vaga: a chamada nem chegou ao Mercado Pago
+// e pode ser repetida (503 para o cliente, nova tentativa adiada nos webhooks)
+public class MercadoPagoOcupadoException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MercadoPagoOcupadoException() {
+        super("Serviço de pagamento ocupado, tente novamente em instantes");
+    }
+}
@@ -1,22 +1,36 @@
 package com.play12.service;
 
 import com.play12.dto.CadastroDTO;
-import com.play12.dto.LoginDTO;
+import com.play12.dto.CursorPageDTO;
 import com.play12.dto.OperadorAdminUpdateDTO;
 import com.play12.dto.OperadorDTO;
+import com.play12.dto.OperadorFiltroDTO;
 import com.play12.entity.Operador;
 import com.play12.entity.Squad;
 import com.play12.enumeracao.FuncaoOperador;
+import com.play12.enumeracao.OrdenacaoOperador;
 import com.play12.enumeracao.TipoOperador;
+import com.play12.event.OperadorAlteradoEvent;
 import com.play12.repository.OperadorRepository;
+import com.play12.repository.OperadorSpecifications;
 import com.play12.repository.SquadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,35 +39,32 @@ import java.util.stream.Collectors;
 @Transactional
 public class OperadorService {
 
+	private static final int LIMITE_PADRAO = 20;
+	private static final int LIMITE_MAXIMO = 100;
+
 	private final OperadorRepository operadorRepository;
 	private final SquadRepository squadRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public OperadorDTO cadastrar(CadastroDTO dto) {
 		log.info("Cadastrando novo operador: {}", dto.getNomeCompleto());
 
-		boolean isAdmin = Boolean.TRUE.equals(dto.getAdmin());
 		String email = dto.getEmail();
 		String nickname = dto.getNickname();
 
-		// Validação para operador (jogador)
-		if (!isAdmin) {
-			if (email == null || email.isBlank()) {
-				throw new IllegalArgumentException("Email é obrigatório para operadores");
-			}
-			if (nickname == null || nickname.isBlank()) {
-				throw new IllegalArgumentException("Nickname é obrigatório para operadores");
-			}
-			if (operadorRepository.existsByEmail(email)) {
-				throw new IllegalArgumentException("Email já cadastrado");
-			}
-			if (operadorRepository.existsByNickname(nickname)) {
-				throw new IllegalArgumentException("Nickname já cadastrado");
-			}
-		} else {
-			// Para admin, gera email e nickname únicos automaticamente
-			email = "admin-" + System.currentTimeMillis() + "@play12.local";
-			nickname = "admin-" + System.currentTimeMillis();
+		// Cadastro público: sempre JOGADOR. ADMIN só por promoção (atualizarAdmin, rota exclusiva de ADMIN)
+		if (email == null || email.isBlank()) {
+			throw new IllegalArgumentException("Email é obrigatório para operadores");
+		}
+		if (nickname == null || nickname.isBlank()) {
+			throw new IllegalArgumentException("Nickname é obrigatório para operadores");
+		}
+		if (operadorRepository.existsByEmail(email)) {
+			throw new IllegalArgumentException("Email já cadastrado");
+		}
+		if (operadorRepository.existsByNickname(nickname)) {
+			throw new IllegalArgumentException("Nickname já cadastrado");
 		}
 
 		Operador operador = Operador.builder()
@@ -62,26 +73,21 @@ public class OperadorService {
 				.senha(passwordEncoder.encode(dto.getSenha()))
 				.nomeCompleto(dto.getNomeCompleto())
 				.telefone(dto.getTelefone())
-				.tipo(isAdmin ? TipoOperador.ADMIN : TipoOperador.JOGADOR)
+				.tipo(TipoOperador.JOGADOR)
 				.funcao(FuncaoOperador.OPERADOR)
 				.totalJogos(0)
 				.build();
 
 		operador = operadorRepository.save(operador);
-		return mapToDTO(operador);
+		OperadorDTO cadastrado = mapToDTO(operador);
+		eventPublisher.publishEvent(new OperadorAlteradoEvent(cadastrado, false, 1,
+				Boolean.TRUE.equals(operador.getPago()) ? 1 : 0));
+		return cadastrado;
 	}
 
-	public OperadorDTO login(LoginDTO dto) {
-		log.info("Login do operador: {}", dto.getEmail());
-
-		Operador operador = operadorRepository.findByEmail(dto.getEmail())
-				.orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
-
-		if (!passwordEncoder.matches(dto.getSenha(), operador.getSenha())) {
-			throw new IllegalArgumentException("Senha incorreta");
-		}
-
-		return mapToDTO(operador);
+	// Rehash feito fora da requisição de login (LoginService)
+	public boolean substituirHashSenha(Long id, String hashAtual, String novoHash) {
+		return operadorRepository.substituirHashSenha(id, hashAtual, novoHash) > 0;
 	}
 
 	public OperadorDTO buscarPorId(Long id) {
@@ -90,13 +96,44 @@ public class OperadorService {
 		return mapToDTO(operador);
 	}
 
+	@Transactional(readOnly = true)
 	public List<OperadorDTO> listarTodos() {
-		return operadorRepository.findAll()
+		return operadorRepository.findAllComSquad()
+				.stream()
+				.map(this::mapToDTO)
+				.collect(Collectors.toList());
+	}
+
+	@Transactional(readOnly = true)
+	public List<OperadorDTO> listarPorIds(Collection<Long> ids) {
+		return operadorRepository.findAllComSquadByIdIn(ids)
 				.stream()
 				.map(this::mapToDTO)
 				.collect(Collectors.toList());
 	}
 
+	@Transactional(readOnly = true)
+	public CursorPageDTO<OperadorDTO> listarPaginado(OrdenacaoOperador ordenacao, Sort.Direction direcao,
+			String cursor, Integer limite, OperadorFiltroDTO filtro) {
+		int tamanho = limite == null ? LIMITE_PADRAO : Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+		Sort sort = Sort.by(direcao, ordenacao.getPropriedade()).and(Sort.by(direcao, "id"));
+		KeysetScrollPosition posicao = decodificarCursor(ordenacao, direcao, cursor);
+
+		Window<Operador> janela = operadorRepository.findBy(OperadorSpecifications.comFiltro(filtro),
+				q -> q.sortBy(sort).limit(tamanho).scroll(posicao));
+
+		List<OperadorDTO> itens = janela.stream().map(this::mapToDTO).collect(Collectors.toList());
+		String nextCursor = janela.hasNext() && !itens.isEmpty()
+				? codificarCursor(ordenacao, direcao, itens.get(itens.size() - 1))
+				: null;
+
+		return CursorPageDTO.<OperadorDTO>builder()
+				.itens(itens)
+				.nextCursor(nextCursor)
+				.hasMore(janela.hasNext())
+				.build();
+	}
+
 	public OperadorDTO atualizar(Long id, CadastroDTO dto) {
 		Operador operador = operadorRepository.findById(id)
 				.orElseThrow(() -> new IllegalArgumentException("Operador não encontrado"));
@@ -121,8 +158,10 @@ public class OperadorService {
 				operador.setSquad(null);
 			}
 		}
-		if (dto.getPago() != null) {
+		int deltaPagos = 0;
+		if (dto.getPago() != null && !dto.getPago().equals(operador.getPago())) {
 			operador.setPago(dto.getPago());
+			deltaPagos = dto.getPago() ? 1 : -1;
 		}
 		if (dto.getPontos() != null) {
 			operador.setPontos(dto.getPontos());
@@ -134,7 +173,9 @@ public class OperadorService {
 		}
 
 		operador = operadorRepository.save(operador);
-		return mapToDTO(operador);
+		OperadorDTO atualizado = mapToDTO(operador);
+		eventPublisher.publishEvent(new OperadorAlteradoEvent(atualizado, false, 0, deltaPagos));
+		return atualizado;
 	}
 
 	public OperadorDTO atualizarPontos(Long id, Integer pontos) {
@@ -146,7 +187,9 @@ public class OperadorService {
 		}
 
 		operador = operadorRepository.save(operador);
-		return mapToDTO(operador);
+		OperadorDTO atualizado = mapToDTO(operador);
+		eventPublisher.publishEvent(new OperadorAlteradoEvent(atualizado, false, 0, 0));
+		return atualizado;
 	}
 
 	public OperadorDTO adicionarAoSquad(Long operadorId, Long squadId) {
@@ -158,17 +201,64 @@ public class OperadorService {
 
 		operador.setSquad(squad);
 		operador = operadorRepository.save(operador);
-		return mapToDTO(operador);
+		OperadorDTO atualizado = mapToDTO(operador);
+		eventPublisher.publishEvent(new OperadorAlteradoEvent(atualizado, false, 0, 0));
+		return atualizado;
 	}
 
 	public void deletar(Long id) {
-		if (!operadorRepository.existsById(id)) {
-			throw new IllegalArgumentException("Operador não encontrado");
+		Operador operador = operadorRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("Operador não encontrado"));
+		OperadorDTO removido = mapToDTO(operador);
+		operadorRepository.delete(operador);
+		eventPublisher.publishEvent(new OperadorAlteradoEvent(removido, true, -1,
+				Boolean.TRUE.equals(operador.getPago()) ? -1 : 0));
+	}
+
+	// Cursor opaco: base64url de "<ordenação>:<direção>:<valor da ordenação>:<id>" do último item da página.
+	// Ordenação e direção vão junto para recusar o cursor numa requisição com outra ordem
+	private String codificarCursor(OrdenacaoOperador ordenacao, Sort.Direction direcao, OperadorDTO ultimo) {
+		Object valor = switch (ordenacao) {
+			case NICKNAME -> ultimo.getNickname();
+			case PONTOS -> ultimo.getPontos();
+			case TOTAL_JOGOS -> ultimo.getTotalJogos();
+		};
+		String bruto = ordenacao.name() + ":" + direcao.name() + ":" + valor + ":" + ultimo.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private KeysetScrollPosition decodificarCursor(OrdenacaoOperador ordenacao, Sort.Direction direcao, String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+		String bruto;
+		try {
+			bruto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Cursor inválido");
+		}
+		String prefixo = ordenacao.name() + ":" + direcao.name() + ":";
+		if (!bruto.startsWith(prefixo)) {
+			throw new IllegalArgumentException("Cursor gerado para outra ordenação: repita sort e direction da primeira página");
+		}
+		try {
+			String chave = bruto.substring(prefixo.length());
+			int separador = chave.lastIndexOf(':');
+			String valor = chave.substring(0, separador);
+			Long id = Long.valueOf(chave.substring(separador + 1));
+
+			Map<String, Object> chaves = new LinkedHashMap<>();
+			chaves.put(ordenacao.getPropriedade(),
+					ordenacao == OrdenacaoOperador.NICKNAME ? valor : Integer.valueOf(valor));
+			chaves.put("id", id);
+			return ScrollPosition.forward(chaves);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Cursor inválido");
 		}
-		operadorRepository.deleteById(id);
 	}
 
-	private OperadorDTO mapToDTO(Operador operador) {
+	// Sem private: medido pelos benchmarks JMH (src/jmh/java)
+	OperadorDTO mapToDTO(Operador operador) {
 		return OperadorDTO.builder()
 				.id(operador.getId())
 				.email(operador.getEmail())
@@ -0,0 +1,84 @@
+package com.play12.service;
+
+import com.play12.dto.PaymentStatusDTO;
+import com.play12.event.PagamentoStatusAlteradoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Acompanhamento do status por SSE: a requisição fica em modo assíncrono no servlet, sem thread parada,
+// e recebe o novo status quando o webhook ou a expiração alteram o pagamento
+@Service
+@Slf4j
+public class PagamentoStatusService {
+
+    private final PaymentService paymentService;
+    private final long timeoutMs;
+
+    private final Map<String, List<SseEmitter>> inscritos = new ConcurrentHashMap<>();
+
+    public PagamentoStatusService(PaymentService paymentService,
+                                  @Value("${app.payments.status-stream-timeout-ms:120000}") long timeoutMs) {
+        this.paymentService = paymentService;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter acompanhar(String transactionId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> remover(transactionId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(erro -> remover(transactionId, emitter));
+
+        // Registra antes de ler, para não perder uma alteração que chegue entre a leitura e o registro
+        inscritos.compute(transactionId, (id, emitters) -> {
+            List<SseEmitter> lista = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            lista.add(emitter);
+            return lista;
+        });
+        try {
+            enviar(emitter, paymentService.buscarStatus(transactionId));
+        } catch (RuntimeException e) {
+            remover(transactionId, emitter);
+            throw e;
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onStatusAlterado(PagamentoStatusAlteradoEvent event) {
+        List<SseEmitter> emitters = inscritos.get(event.transactionId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        PaymentStatusDTO status = paymentService.buscarStatus(event.transactionId());
+        emitters.forEach(emitter -> enviar(emitter, status));
+    }
+
+    private void enviar(SseEmitter emitter, PaymentStatusDTO status) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(status));
+            // Status final: nada mais a esperar
+            if (!"PENDING".equals(status.getStatus())) {
+                emitter.complete();
+            }
+        } catch (IOException e) {
+            log.debug("Cliente do status {} desconectou: {}", status.getTransactionId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remover(String transactionId, SseEmitter emitter) {
+        inscritos.computeIfPresent(transactionId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,84 +1,152 @@
 package com.play12.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.play12.config.MercadoPagoConfig;
 import com.play12.dto.PaymentRequestDTO;
 import com.play12.dto.PIXPaymentResponseDTO;
+import com.play12.dto.PaymentStatusDTO;
 import com.play12.entity.Payment;
 import com.play12.entity.Product;
+import com.play12.event.PagamentoStatusAlteradoEvent;
 import com.play12.repository.PaymentRepository;
 import com.play12.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.math.BigDecimal;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class PaymentService {
 
-    private static final String MERCADO_PAGO_API = "https://api.mercadopago.com";
     private final PaymentRepository paymentRepository;
     private final ProductRepository productRepository;
     private final MercadoPagoConfig config;
-    private final ObjectMapper objectMapper;
-    private final HttpClient httpClient;
+    private final MercadoPagoClient mercadoPagoClient;
+    private final PixQrCodeService pixQrCodeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService persistencia;
 
     public PaymentService(PaymentRepository paymentRepository,
                          ProductRepository productRepository,
-                         MercadoPagoConfig config) {
+                         MercadoPagoConfig config,
+                         MercadoPagoClient mercadoPagoClient,
+                         PixQrCodeService pixQrCodeService,
+                         ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.payment.persistence-threads:4}") int threadsPersistencia) {
         this.paymentRepository = paymentRepository;
         this.productRepository = productRepository;
         this.config = config;
-        this.objectMapper = new ObjectMapper();
-        this.httpClient = HttpClient.newHttpClient();
+        this.mercadoPagoClient = mercadoPagoClient;
+        this.pixQrCodeService = pixQrCodeService;
+        this.eventPublisher = eventPublisher;
+        // Save depois da resposta do Mercado Pago fora das threads do HttpClient. A fila não precisa de
+        // limite: o bulkhead do MercadoPagoClient já limita quantas respostas podem estar a caminho
+        this.persistencia = Executors.newFixedThreadPool(threadsPersistencia, runnable -> {
+            Thread thread = new Thread(runnable, "pagamento-persistencia");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorServiceMetrics.monitor(meterRegistry, persistencia, "pagamento.persistencia");
     }
 
-    @Transactional
-    public PIXPaymentResponseDTO createPixPayment(PaymentRequestDTO request) {
-        try {
-            if (config.getAccessToken() == null || config.getAccessToken().isEmpty()) {
-                throw new RuntimeException("Mercado Pago Access Token not configured");
-            }
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        persistencia.shutdown();
+        persistencia.awaitTermination(5, TimeUnit.SECONDS);
+    }
 
+    // Sem transação durante a chamada externa: a conexão do banco só é usada na busca do produto
+    // e no save final, depois que o Mercado Pago responde
+    public CompletableFuture<PIXPaymentResponseDTO> createPixPayment(PaymentRequestDTO request) {
+        try {
             // Buscar produto se informado
             Product product = null;
             if (request.getProductId() != null) {
                 product = productRepository.findById(request.getProductId())
                         .orElseThrow(() -> new RuntimeException("Produto não encontrado"));
             }
+            Product produto = product;
+
+            // BR Code gerado na aplicação: nenhuma chamada externa
+            if (pixQrCodeService.isAtivo()) {
+                return CompletableFuture.completedFuture(createLocalPixPayment(request, product));
+            }
+
+            if (config.getAccessToken() == null || config.getAccessToken().isEmpty()) {
+                throw new RuntimeException("Mercado Pago Access Token not configured");
+            }
 
             // Preparar dados de pagamento
             Map<String, Object> paymentData = preparePaymentData(request, product);
-            
+
             // Chamar API Mercado Pago
-            String response = callMercadoPagoAPI(paymentData);
-            JsonNode jsonResponse = objectMapper.readTree(response);
+            return mercadoPagoClient.post("/checkout/preferences", paymentData, MercadoPagoClient.Preferencia.class)
+                    .thenApplyAsync(preferencia -> {
+                        // Salvar pagamento no banco
+                        Payment payment = createAndSavePayment(request, produto, preferencia,
+                                (String) paymentData.get("external_reference"));
 
-            // Salvar pagamento no banco
-            Payment payment = createAndSavePayment(request, product, jsonResponse);
+                        // Construir resposta
+                        return buildResponse(preferencia, payment);
+                    }, persistencia);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            // Construir resposta
-            return buildResponse(jsonResponse, payment);
+    private PIXPaymentResponseDTO createLocalPixPayment(PaymentRequestDTO request, Product product) {
+        BigDecimal amount = request.getAmount() != null ? request.getAmount() :
+                           (product != null ? product.getPreco() : BigDecimal.ZERO);
+        // Cabe inteiro no txid do BR Code (até 25 alfanuméricos), que volta igual na conciliação
+        String transactionId = "PLAY12" + UUID.randomUUID().toString().replace("-", "").substring(0, 19);
+        String payload = pixQrCodeService.gerar(amount, transactionId);
 
-        } catch (IOException e) {
-            log.error("Erro creating Pix payment", e);
-            throw new RuntimeException("Erro ao criar pagamento: " + e.getMessage());
-        }
+        Payment payment = paymentRepository.save(Payment.builder()
+                .transactionId(transactionId)
+                .amount(amount)
+                .status("PENDING")
+                .paymentMethod("PIX")
+                .qrCode(payload)
+                .qrCodeUrl("/api/payments/pix/" + transactionId + "/qrcode.png")
+                .payerEmail(request.getPayerEmail())
+                .payerName(request.getPayerName())
+                .quantity(request.getQuantity() != null ? request.getQuantity() : 1)
+                .description(request.getDescription())
+                .product(product)
+                .expirationTime(LocalDateTime.now().plusMinutes(config.getPixExpirationMinutes()))
+                .build());
+
+        return PIXPaymentResponseDTO.builder()
+                .transactionId(payment.getTransactionId())
+                .qrCode(payment.getQrCode())
+                .qrCodeUrl(payment.getQrCodeUrl())
+                .amount(payment.getAmount())
+                .status(payment.getStatus())
+                .expirationTime(payment.getExpirationTime())
+                .message("QR Code gerado com sucesso! Escaneie para pagar com Pix.")
+                .build();
     }
 
-    private Map<String, Object> preparePaymentData(PaymentRequestDTO request, Product product) {
+    // Sem private: medido pelos benchmarks JMH (src/jmh/java)
+    Map<String, Object> preparePaymentData(PaymentRequestDTO request, Product product) {
         Map<String, Object> data = new LinkedHashMap<>();
 
         BigDecimal amount = request.getAmount() != null ? request.getAmount() :
@@ -108,69 +176,30 @@ public class PaymentService {
         return data;
     }
 
-    private String callMercadoPagoAPI(Map<String, Object> paymentData) throws IOException {
-        String payload = objectMapper.writeValueAsString(paymentData);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(MERCADO_PAGO_API + "/checkout/preferences"))
-                .header("Authorization", "Bearer " + config.getAccessToken())
-                .header("Content-Type", "application/json")
-                .header("X-Idempotency-Key", UUID.randomUUID().toString())
-                .POST(HttpRequest.BodyPublishers.ofString(payload))
-                .build();
-
-        try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return response.body();
-            } else {
-                log.error("Mercado Pago API error: {} - {}", response.statusCode(), response.body());
-                throw new RuntimeException("Erro na API Mercado Pago: " + response.statusCode());
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Requisição interrompida", e);
-        }
-    }
-
-    @Transactional
-    private Payment createAndSavePayment(PaymentRequestDTO request, Product product, JsonNode response) {
-        String transactionId = response.has("id") ? response.get("id").asText() :
-                              UUID.randomUUID().toString();
-
-        String qrCode = extractQrCode(response);
-        String initPoint = response.has("init_point") ? response.get("init_point").asText() : "";
+    private Payment createAndSavePayment(PaymentRequestDTO request, Product product,
+                                         MercadoPagoClient.Preferencia preferencia, String externalReference) {
+        String transactionId = preferencia.id() != null ? preferencia.id() : UUID.randomUUID().toString();
 
         Payment payment = Payment.builder()
                 .transactionId(transactionId)
                 .amount(request.getAmount())
                 .status("PENDING")
                 .paymentMethod("PIX")
-                .qrCode(qrCode)
-                .qrCodeUrl(initPoint)
+                .qrCode(preferencia.qrCode())
+                .qrCodeUrl(preferencia.initPoint() != null ? preferencia.initPoint() : "")
                 .payerEmail(request.getPayerEmail())
                 .payerName(request.getPayerName())
                 .quantity(request.getQuantity() != null ? request.getQuantity() : 1)
                 .description(request.getDescription())
                 .product(product)
                 .expirationTime(LocalDateTime.now().plusMinutes(config.getPixExpirationMinutes()))
-                .merchantOrderId(response.has("preference_id") ? response.get("preference_id").asText() : "")
+                .externalReference(externalReference)
                 .build();
 
         return paymentRepository.save(payment);
     }
 
-    private String extractQrCode(JsonNode response) {
-        if (response.has("point_of_interaction")) {
-            JsonNode poi = response.get("point_of_interaction");
-            if (poi.has("transaction_data") && poi.get("transaction_data").has("qr_code")) {
-                return poi.get("transaction_data").get("qr_code").asText();
-            }
-        }
-        return null;
-    }
-
-    private PIXPaymentResponseDTO buildResponse(JsonNode response, Payment payment) {
+    private PIXPaymentResponseDTO buildResponse(MercadoPagoClient.Preferencia preferencia, Payment payment) {
         return PIXPaymentResponseDTO.builder()
                 .transactionId(payment.getTransactionId())
                 .qrCode(payment.getQrCode())
@@ -178,7 +207,7 @@ public class PaymentService {
                 .amount(payment.getAmount())
                 .status(payment.getStatus())
                 .expirationTime(payment.getExpirationTime())
-                .paymentLink(response.has("init_point") ? response.get("init_point").asText() : "")
+                .paymentLink(preferencia.initPoint() != null ? preferencia.initPoint() : "")
                 .message("QR Code gerado com sucesso! Escaneie para pagar com Pix.")
                 .build();
     }
@@ -189,14 +218,96 @@ public class PaymentService {
                 .orElseThrow(() -> new RuntimeException("Pagamento não encontrado"));
     }
 
+    // PNG do QR só quando alguém pede; o BR Code salvo é a fonte
+    public byte[] qrCodePix(String transactionId) {
+        Payment payment = getPaymentStatus(transactionId);
+        if (payment.getQrCode() == null || !pixQrCodeService.isAtivo()) {
+            throw new RuntimeException("QR Code não disponível");
+        }
+        return pixQrCodeService.imagem(payment.getQrCode());
+    }
+
+    @Transactional(readOnly = true)
+    public PaymentStatusDTO buscarStatus(String transactionId) {
+        return paymentRepository.findStatusByTransactionId(transactionId)
+                .orElseThrow(() -> new RuntimeException("Pagamento não encontrado"));
+    }
+
     @Transactional
     public void updatePaymentStatus(String transactionId, String newStatus) {
         Payment payment = getPaymentStatus(transactionId);
+        aplicarStatus(payment, newStatus);
+        paymentRepository.save(payment);
+        eventPublisher.publishEvent(new PagamentoStatusAlteradoEvent(transactionId));
+        log.info("Payment status updated: {} -> {}", transactionId, newStatus);
+    }
+
+    // Aplica um lote de notificações numa única transação; as alterações saem no flush em batch
+    @Transactional
+    public int atualizarStatusEmLote(List<AtualizacaoStatus> atualizacoes) {
+        int alterados = 0;
+        for (AtualizacaoStatus atualizacao : atualizacoes) {
+            Optional<Payment> encontrado = Optional.empty();
+            if (atualizacao.transactionId() != null) {
+                encontrado = paymentRepository.findByTransactionId(atualizacao.transactionId());
+            }
+            if (encontrado.isEmpty() && atualizacao.externalReference() != null) {
+                encontrado = paymentRepository.findByExternalReference(atualizacao.externalReference());
+            }
+            if (encontrado.isEmpty()) {
+                log.warn("Notificação sem pagamento correspondente: {}", atualizacao);
+                continue;
+            }
+
+            Payment payment = encontrado.get();
+            if (atualizacao.merchantOrderId() != null) {
+                payment.setMerchantOrderId(atualizacao.merchantOrderId());
+            }
+            if (transicaoPermitida(payment.getStatus(), atualizacao.status())) {
+                aplicarStatus(payment, atualizacao.status());
+                alterados++;
+                eventPublisher.publishEvent(new PagamentoStatusAlteradoEvent(payment.getTransactionId()));
+                log.info("Payment status updated: {} -> {}", payment.getTransactionId(), atualizacao.status());
+            }
+        }
+        return alterados;
+    }
+
+    // Um lote por transação, para não segurar locks de muitas linhas de uma vez
+    @Transactional
+    public int expirarVencidos(LocalDateTime agora, int tamanhoLote) {
+        List<String> transactionIds = paymentRepository.findTransactionIdsVencidos("PENDING", agora, Limit.of(tamanhoLote));
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+        int expirados = paymentRepository.atualizarStatus(transactionIds, "PENDING", "EXPIRED");
+        transactionIds.forEach(transactionId -> eventPublisher.publishEvent(new PagamentoStatusAlteradoEvent(transactionId)));
+        return expirados;
+    }
+
+    @Transactional(readOnly = true)
+    public long contarVencidos(LocalDateTime agora) {
+        return paymentRepository.countByStatusAndExpirationTimeBefore("PENDING", agora);
+    }
+
+    private void aplicarStatus(Payment payment, String newStatus) {
         payment.setStatus(newStatus);
         if ("COMPLETED".equals(newStatus)) {
             payment.setCompletedAt(LocalDateTime.now());
         }
-        paymentRepository.save(payment);
-        log.info("Payment status updated: {} -> {}", transactionId, newStatus);
+    }
+
+    // Notificações chegam repetidas e fora de ordem: um PENDING atrasado não desfaz um status final
+    private boolean transicaoPermitida(String atual, String novo) {
+        if (novo == null || novo.equals(atual)) {
+            return false;
+        }
+        return !"PENDING".equals(novo) || atual == null;
+    }
+
+    // transactionId é o id da preferência (o preference_id da merchant order); a consulta de payment só traz
+    // o external_reference, gravado no Payment na criação. A merchant order só é conhecida pela notificação
+    public record AtualizacaoStatus(String transactionId, String externalReference, String merchantOrderId,
+                                    String status) {
     }
 }
@@ -0,0 +1,142 @@
+package com.play12.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+
+// Payload PIX "copia e cola" (BR Code, padrão EMV MPM do Banco Central). A parte fixa do recebedor
+// e o CRC dela são calculados uma vez; cada geração só processa valor, txid e o fechamento.
+public final class PixBrCode {
+
+    private static final int[] TABELA_CRC = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            TABELA_CRC[i] = crc & 0xFFFF;
+        }
+    }
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final int TAMANHO_MAXIMO_TXID = 25;
+    private static final int TAMANHO_MAXIMO_CAMPO = 99;
+
+    private final String prefixo;
+    private final String sufixoRecebedor;
+    private final int crcPrefixo;
+    private final int tamanhoEstimado;
+
+    public PixBrCode(String chave, String nome, String cidade) {
+        if (chave == null || chave.isBlank()) {
+            throw new IllegalArgumentException("Chave PIX do recebedor não configurada");
+        }
+
+        StringBuilder contaRecebedor = new StringBuilder();
+        campo(contaRecebedor, "00", "br.gov.bcb.pix");
+        campo(contaRecebedor, "01", chave.trim());
+
+        StringBuilder sb = new StringBuilder();
+        campo(sb, "00", "01");
+        campo(sb, "26", contaRecebedor);
+        campo(sb, "52", "0000");
+        campo(sb, "53", "986");
+        this.prefixo = sb.toString();
+        this.crcPrefixo = crc16(prefixo, 0, prefixo.length(), 0xFFFF);
+
+        sb.setLength(0);
+        campo(sb, "58", "BR");
+        campo(sb, "59", normalizar(nome, 25));
+        campo(sb, "60", normalizar(cidade, 15));
+        this.sufixoRecebedor = sb.toString();
+
+        // valor (até 17) + dados adicionais (até 33) + CRC (8)
+        this.tamanhoEstimado = prefixo.length() + sufixoRecebedor.length() + 58;
+    }
+
+    public String gerar(BigDecimal valor, CharSequence txid) {
+        StringBuilder sb = new StringBuilder(tamanhoEstimado).append(prefixo);
+        if (valor != null && valor.signum() > 0) {
+            campo(sb, "54", valor.setScale(2, RoundingMode.HALF_UP).toPlainString());
+        }
+        sb.append(sufixoRecebedor);
+
+        // 62 > 05: txid alfanumérico; "***" quando não há identificador
+        int tamanhoTxid = tamanhoTxid(txid);
+        sb.append("62");
+        doisDigitos(sb, tamanhoTxid == 0 ? 7 : tamanhoTxid + 4);
+        sb.append("05");
+        if (tamanhoTxid == 0) {
+            sb.append("03***");
+        } else {
+            doisDigitos(sb, tamanhoTxid);
+            anexarTxid(sb, txid, tamanhoTxid);
+        }
+
+        sb.append("6304");
+        int crc = crc16(sb, prefixo.length(), sb.length(), crcPrefixo);
+        sb.append(HEX[(crc >> 12) & 0xF]).append(HEX[(crc >> 8) & 0xF])
+                .append(HEX[(crc >> 4) & 0xF]).append(HEX[crc & 0xF]);
+
+        return sb.toString();
+    }
+
+    // CRC16-CCITT (polinômio 0x1021, inicial 0xFFFF), continuando a partir de um CRC parcial
+    static int crc16(CharSequence dados, int inicio, int fim, int crc) {
+        for (int i = inicio; i < fim; i++) {
+            crc = ((crc << 8) ^ TABELA_CRC[((crc >> 8) ^ dados.charAt(i)) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    private static int tamanhoTxid(CharSequence txid) {
+        if (txid == null) {
+            return 0;
+        }
+        int tamanho = 0;
+        for (int i = 0; i < txid.length() && tamanho < TAMANHO_MAXIMO_TXID; i++) {
+            if (alfanumerico(txid.charAt(i))) {
+                tamanho++;
+            }
+        }
+        return tamanho;
+    }
+
+    private static void anexarTxid(StringBuilder sb, CharSequence txid, int tamanho) {
+        for (int i = 0; i < txid.length() && tamanho > 0; i++) {
+            char c = txid.charAt(i);
+            if (alfanumerico(c)) {
+                sb.append(c);
+                tamanho--;
+            }
+        }
+    }
+
+    private static boolean alfanumerico(char c) {
+        return c >= '0' && c <= '9' || c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
+    }
+
+    // O tamanho do campo EMV tem dois dígitos: acima de 99 o payload sairia corrompido
+    private static void campo(StringBuilder sb, String id, CharSequence valor) {
+        if (valor.length() > TAMANHO_MAXIMO_CAMPO) {
+            throw new IllegalArgumentException("Campo " + id + " do BR Code excede " + TAMANHO_MAXIMO_CAMPO + " caracteres");
+        }
+        sb.append(id);
+        doisDigitos(sb, valor.length());
+        sb.append(valor);
+    }
+
+    private static void doisDigitos(StringBuilder sb, int valor) {
+        sb.append((char) ('0' + valor / 10)).append((char) ('0' + valor % 10));
+    }
+
+    // Nome e cidade: ASCII sem acentos, em maiúsculas e no tamanho máximo do campo
+    private static String normalizar(String valor, int tamanhoMaximo) {
+        String ascii = Normalizer.normalize(valor == null ? "" : valor.trim(), Normalizer.Form.NFD)
+                .replaceAll("[^\\x20-\\x7E]", "")
+                .toUpperCase();
+        return ascii.length() > tamanhoMaximo ? ascii.substring(0, tamanhoMaximo) : ascii;
+    }
+}
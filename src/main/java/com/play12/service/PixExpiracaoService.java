@@ -0,0 +1,61 @@
+package com.play12.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Expira pagamentos PIX pendentes cujo prazo passou, em lotes pelo índice (status, expiration_time),
+// para que o conjunto de PENDING não cresça indefinidamente
+@Service
+@Slf4j
+public class PixExpiracaoService {
+
+    private final PaymentService paymentService;
+    private final int tamanhoLote;
+    private final int maxLotesPorVarredura;
+
+    // Vencidos ainda pendentes ao fim da última varredura
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter expirados;
+
+    public PixExpiracaoService(PaymentService paymentService,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.pix.expiration-sweep.batch-size:500}") int tamanhoLote,
+                               @Value("${app.pix.expiration-sweep.max-batches:20}") int maxLotesPorVarredura) {
+        this.paymentService = paymentService;
+        this.tamanhoLote = tamanhoLote;
+        this.maxLotesPorVarredura = maxLotesPorVarredura;
+        Gauge.builder("pix.expiracao.backlog", backlog, AtomicLong::get)
+                .description("Pagamentos PIX vencidos ainda com status PENDING")
+                .register(meterRegistry);
+        this.expirados = Counter.builder("pix.expiracao.expirados")
+                .description("Pagamentos PIX marcados como EXPIRED pela varredura")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.pix.expiration-sweep.interval-ms:60000}")
+    public void expirarVencidos() {
+        LocalDateTime agora = LocalDateTime.now();
+        int total = 0;
+        for (int lote = 0; lote < maxLotesPorVarredura; lote++) {
+            int atualizados = paymentService.expirarVencidos(agora, tamanhoLote);
+            total += atualizados;
+            if (atualizados < tamanhoLote) {
+                break;
+            }
+        }
+
+        expirados.increment(total);
+        backlog.set(paymentService.contarVencidos(agora));
+        if (total > 0) {
+            log.info("{} pagamentos PIX expirados, {} vencidos restantes", total, backlog.get());
+        }
+    }
+}
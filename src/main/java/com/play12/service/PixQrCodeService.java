@@ -0,0 +1,77 @@
+package com.play12.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.play12.config.PixConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+// Geração local do PIX (pix.bank-integration = LOCAL ou MOCK): o pagamento só recebe o BR Code, com o
+// transactionId como txid. O PNG do QR é renderizado sob demanda e fica em cache pelo payload.
+@Service
+@Slf4j
+public class PixQrCodeService {
+
+    private static final Map<EncodeHintType, Object> OPCOES_QR = Map.of(
+            EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M,
+            EncodeHintType.MARGIN, 1);
+
+    private final PixConfig config;
+    private final PixBrCode brCode;
+    private final Cache<String, byte[]> imagens = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    public PixQrCodeService(PixConfig config) {
+        this.config = config;
+        this.brCode = config.isGeracaoLocal()
+                ? new PixBrCode(config.getMerchantKey(), config.getMerchantName(), config.getMerchantCity())
+                : null;
+        if (brCode != null) {
+            log.info("PIX gerado localmente ({})", config.getBankIntegration());
+        }
+    }
+
+    public boolean isAtivo() {
+        return brCode != null;
+    }
+
+    public String gerar(BigDecimal valor, String txid) {
+        return brCode.gerar(valor, txid);
+    }
+
+    public byte[] imagem(String payload) {
+        return imagens.get(payload, this::renderizar);
+    }
+
+    private byte[] renderizar(String payload) {
+        int tamanho = config.getQrCodeSize();
+        try {
+            BitMatrix matriz = new QRCodeWriter().encode(payload, BarcodeFormat.QR_CODE, tamanho, tamanho, OPCOES_QR);
+            BufferedImage imagem = new BufferedImage(matriz.getWidth(), matriz.getHeight(), BufferedImage.TYPE_BYTE_BINARY);
+            for (int y = 0; y < matriz.getHeight(); y++) {
+                for (int x = 0; x < matriz.getWidth(); x++) {
+                    imagem.setRGB(x, y, matriz.get(x, y) ? 0x000000 : 0xFFFFFF);
+                }
+            }
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(imagem, "png", png);
+            return png.toByteArray();
+        } catch (WriterException | IOException e) {
+            throw new RuntimeException("Erro ao gerar QR Code: " + e.getMessage());
+        }
+    }
+}
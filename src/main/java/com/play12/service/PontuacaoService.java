@@ -0,0 +1,100 @@
+package com.play12.service;
+
+import com.play12.config.CacheConfig;
+import com.play12.dto.OperadorDTO;
+import com.play12.dto.PontuacaoJogoDTO;
+import com.play12.entity.Game;
+import com.play12.event.JogoAlteradoEvent;
+import com.play12.event.OperadoresPontuadosEvent;
+import com.play12.repository.GameOperadorRepository;
+import com.play12.repository.GameRepository;
+import com.play12.repository.OperadorRepository;
+import com.play12.repository.SquadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PontuacaoService {
+
+	private static final String STATUS_FINALIZADO = "Finalizado";
+
+	private final GameRepository gameRepository;
+	private final GameOperadorRepository gameOperadorRepository;
+	private final OperadorRepository operadorRepository;
+	private final SquadRepository squadRepository;
+	private final OperadorService operadorService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@CacheEvict(cacheNames = {CacheConfig.JOGOS, CacheConfig.JOGOS_PROXIMOS, CacheConfig.SQUADS}, allEntries = true)
+	public List<OperadorDTO> pontuarJogo(Long gameId, PontuacaoJogoDTO dto) {
+		Game game = gameRepository.findById(gameId)
+				.orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
+		if (STATUS_FINALIZADO.equals(game.getStatus())) {
+			throw new IllegalArgumentException("Jogo já foi pontuado");
+		}
+		if (dto.getResultados() == null || dto.getResultados().isEmpty()) {
+			throw new IllegalArgumentException("Nenhum resultado informado");
+		}
+
+		Map<Long, Integer> pontosPorOperador = new LinkedHashMap<>();
+		for (PontuacaoJogoDTO.Resultado resultado : dto.getResultados()) {
+			if (resultado.getOperadorId() == null || resultado.getPontos() == null) {
+				throw new IllegalArgumentException("Cada resultado precisa de operadorId e pontos");
+			}
+			pontosPorOperador.merge(resultado.getOperadorId(), resultado.getPontos(), Integer::sum);
+		}
+
+		Set<Long> noElenco = new HashSet<>(gameOperadorRepository.findOperadorIdsInscritos(gameId, pontosPorOperador.keySet()));
+		for (Long operadorId : pontosPorOperador.keySet()) {
+			if (!noElenco.contains(operadorId)) {
+				throw new IllegalArgumentException("Operador " + operadorId + " não está associado a este jogo");
+			}
+		}
+
+		// Marca o jogo primeiro: a versão do Game impede que duas pontuações concorrentes passem
+		game.setStatus(STATUS_FINALIZADO);
+		gameRepository.saveAndFlush(game);
+
+		// Um UPDATE por valor distinto de pontos, em vez de um por operador
+		agruparPorValor(pontosPorOperador).forEach((delta, ids) -> operadorRepository.somarPontos(ids, delta));
+		operadorRepository.incrementarJogosDoElenco(gameId);
+		squadRepository.incrementarJogosDoElenco(gameId);
+
+		List<OperadorDTO> pontuados = operadorService.listarPorIds(pontosPorOperador.keySet());
+		Map<Long, Integer> pontosPorSquad = new HashMap<>();
+		for (OperadorDTO operador : pontuados) {
+			if (operador.getSquadId() != null) {
+				pontosPorSquad.merge(operador.getSquadId(), pontosPorOperador.get(operador.getId()), Integer::sum);
+			}
+		}
+		agruparPorValor(pontosPorSquad).forEach((delta, ids) -> squadRepository.somarPontuacao(ids, delta));
+
+		// Um evento para o jogo inteiro: o ranking reconstrói o índice uma vez
+		eventPublisher.publishEvent(new OperadoresPontuadosEvent(pontuados));
+		eventPublisher.publishEvent(new JogoAlteradoEvent(gameId, false));
+		log.info("Jogo {} pontuado: {} operadores, {} squads", gameId, pontuados.size(), pontosPorSquad.size());
+		return pontuados;
+	}
+
+	private Map<Integer, List<Long>> agruparPorValor(Map<Long, Integer> valores) {
+		return valores.entrySet().stream()
+				.filter(e -> e.getValue() != 0)
+				.collect(Collectors.groupingBy(Map.Entry::getValue,
+						Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+	}
+}
@@ -1,9 +1,12 @@
 package com.play12.service;
 
+import com.play12.config.CacheConfig;
 import com.play12.dto.ProductDTO;
 import com.play12.entity.Product;
 import com.play12.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class ProductService {
 
 	private final ProductRepository productRepository;
 
+	@CacheEvict(cacheNames = CacheConfig.PRODUTOS, allEntries = true)
 	public ProductDTO criar(ProductDTO dto) {
 		Product product = Product.builder()
 				.nome(dto.getNome())
@@ -29,10 +33,13 @@ public class ProductService {
 		return mapToDTO(productRepository.save(product));
 	}
 
+	@Transactional(readOnly = true)
+	@Cacheable(CacheConfig.PRODUTOS)
 	public List<ProductDTO> listar() {
 		return productRepository.findAll().stream().map(this::mapToDTO).collect(Collectors.toList());
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.PRODUTOS, allEntries = true)
 	public ProductDTO atualizar(Long id, ProductDTO dto) {
 		Product product = productRepository.findById(id)
 				.orElseThrow(() -> new IllegalArgumentException("Produto não encontrado"));
@@ -47,6 +54,7 @@ public class ProductService {
 		return mapToDTO(productRepository.save(product));
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.PRODUTOS, allEntries = true)
 	public void deletar(Long id) {
 		if (!productRepository.existsById(id)) {
 			throw new IllegalArgumentException("Produto não encontrado");
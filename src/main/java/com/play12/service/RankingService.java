@@ -0,0 +1,235 @@
+package com.play12.service;
+
+import com.play12.dto.OperadorDTO;
+import com.play12.dto.RankingOperadorDTO;
+import com.play12.dto.RankingSquadDTO;
+import com.play12.event.OperadorAlteradoEvent;
+import com.play12.event.OperadoresPontuadosEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Ranking em memória: array ordenado de chaves long (pontos desc, id asc), trocado por cópia a cada
+// alteração. Chaves, operadores e squads formam um único Ranking imutável publicado por uma referência
+// volatile: leituras são lock-free, usam busca binária e nunca misturam duas versões.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingService {
+
+	private static final long ID_MAXIMO = (1L << 31) - 1;
+
+	private final OperadorService operadorService;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	// Só o escritor, sob o lock
+	private final Map<Long, AgregadoSquad> agregados = new HashMap<>();
+	private volatile Ranking ranking = new Ranking(new long[0], Map.of(), List.of());
+
+	private record Ranking(long[] chaves, Map<Long, OperadorDTO> operadores, List<RankingSquadDTO> squads) {
+	}
+
+	private static final class AgregadoSquad {
+		private String nome;
+		private long pontos;
+		private int operadores;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void carregar() {
+		List<OperadorDTO> todos = operadorService.listarTodos();
+
+		lock.lock();
+		try {
+			agregados.clear();
+			Map<Long, OperadorDTO> operadores = new HashMap<>();
+			long[] novas = new long[todos.size()];
+			int i = 0;
+			for (OperadorDTO operador : todos) {
+				operadores.put(operador.getId(), operador);
+				somarSquad(operador, 1);
+				novas[i++] = chave(pontosDe(operador), operador.getId());
+			}
+			Arrays.sort(novas);
+			publicar(novas, operadores);
+		} finally {
+			lock.unlock();
+		}
+		log.info("Ranking carregado com {} operadores", todos.size());
+	}
+
+	@TransactionalEventListener
+	public void onOperadorAlterado(OperadorAlteradoEvent event) {
+		aplicar(List.of(event.operador()), event.removido());
+	}
+
+	@TransactionalEventListener
+	public void onOperadoresPontuados(OperadoresPontuadosEvent event) {
+		aplicar(event.operadores(), false);
+	}
+
+	// Uma passada de merge sobre o array atual para o lote inteiro: O(n + k log k)
+	private void aplicar(List<OperadorDTO> alterados, boolean removidos) {
+		lock.lock();
+		try {
+			Ranking atual = ranking;
+			Map<Long, OperadorDTO> operadores = new HashMap<>(atual.operadores());
+			Set<Long> chavesAntigas = new HashSet<>();
+			List<Long> chavesNovas = new ArrayList<>(alterados.size());
+			for (OperadorDTO novo : alterados) {
+				OperadorDTO anterior = removidos ? operadores.remove(novo.getId()) : operadores.put(novo.getId(), novo);
+				if (anterior != null) {
+					somarSquad(anterior, -1);
+					chavesAntigas.add(chave(pontosDe(anterior), anterior.getId()));
+				}
+				if (!removidos) {
+					somarSquad(novo, 1);
+					chavesNovas.add(chave(pontosDe(novo), novo.getId()));
+				}
+			}
+			publicar(mesclar(atual.chaves(), chavesAntigas, chavesNovas), operadores);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public List<RankingOperadorDTO> top(int limite) {
+		Ranking atual = ranking;
+		int fim = Math.min(Math.max(limite, 0), atual.chaves().length);
+		List<RankingOperadorDTO> resultado = new ArrayList<>(fim);
+		for (int i = 0; i < fim; i++) {
+			resultado.add(entrada(atual, i));
+		}
+		return resultado;
+	}
+
+	public RankingOperadorDTO posicaoDe(Long operadorId) {
+		Ranking atual = ranking;
+		return entrada(atual, indiceDe(atual, operadorId));
+	}
+
+	public List<RankingOperadorDTO> vizinhos(Long operadorId, int raio) {
+		Ranking atual = ranking;
+		int indice = indiceDe(atual, operadorId);
+		int inicio = Math.max(indice - raio, 0);
+		int fim = Math.min(indice + raio + 1, atual.chaves().length);
+		List<RankingOperadorDTO> resultado = new ArrayList<>(fim - inicio);
+		for (int i = inicio; i < fim; i++) {
+			resultado.add(entrada(atual, i));
+		}
+		return resultado;
+	}
+
+	public List<RankingSquadDTO> squads() {
+		return ranking.squads();
+	}
+
+	private int indiceDe(Ranking atual, Long operadorId) {
+		OperadorDTO operador = atual.operadores().get(operadorId);
+		int indice = operador == null ? -1 : Arrays.binarySearch(atual.chaves(), chave(pontosDe(operador), operadorId));
+		if (indice < 0) {
+			throw new IllegalArgumentException("Operador não encontrado no ranking");
+		}
+		return indice;
+	}
+
+	// Empates dividem a posição: posição = 1 + quantidade de operadores com mais pontos
+	private RankingOperadorDTO entrada(Ranking atual, int indice) {
+		long[] atuais = atual.chaves();
+		long chave = atuais[indice];
+		int pontos = (int) (Integer.MAX_VALUE - (chave >>> 31));
+		Long id = chave & ID_MAXIMO;
+		int primeiroComMesmosPontos = -Arrays.binarySearch(atuais, 0, indice + 1, chave(pontos, 0)) - 1;
+		OperadorDTO operador = atual.operadores().get(id);
+		return RankingOperadorDTO.builder()
+				.posicao(primeiroComMesmosPontos + 1)
+				.operadorId(id)
+				.nickname(operador != null ? operador.getNickname() : null)
+				.squadId(operador != null ? operador.getSquadId() : null)
+				.squadNome(operador != null ? operador.getSquadNome() : null)
+				.pontos(pontos)
+				.build();
+	}
+
+	private void somarSquad(OperadorDTO operador, int sinal) {
+		if (operador.getSquadId() == null) {
+			return;
+		}
+		AgregadoSquad agregado = agregados.computeIfAbsent(operador.getSquadId(), id -> new AgregadoSquad());
+		agregado.nome = operador.getSquadNome();
+		agregado.pontos += (long) sinal * pontosDe(operador);
+		agregado.operadores += sinal;
+		if (agregado.operadores == 0) {
+			agregados.remove(operador.getSquadId());
+		}
+	}
+
+	private void publicar(long[] chaves, Map<Long, OperadorDTO> operadores) {
+		ranking = new Ranking(chaves, Collections.unmodifiableMap(operadores), squadsOrdenados());
+	}
+
+	private List<RankingSquadDTO> squadsOrdenados() {
+		List<Map.Entry<Long, AgregadoSquad>> ordenados = new ArrayList<>(agregados.entrySet());
+		ordenados.sort(Comparator.comparingLong((Map.Entry<Long, AgregadoSquad> e) -> -e.getValue().pontos)
+				.thenComparing(Map.Entry::getKey));
+
+		List<RankingSquadDTO> resultado = new ArrayList<>(ordenados.size());
+		for (int i = 0; i < ordenados.size(); i++) {
+			AgregadoSquad agregado = ordenados.get(i).getValue();
+			boolean empate = i > 0 && resultado.get(i - 1).getPontos() == agregado.pontos;
+			resultado.add(RankingSquadDTO.builder()
+					.posicao(empate ? resultado.get(i - 1).getPosicao() : i + 1)
+					.squadId(ordenados.get(i).getKey())
+					.nome(agregado.nome)
+					.pontos(agregado.pontos)
+					.operadores(agregado.operadores)
+					.build());
+		}
+		return List.copyOf(resultado);
+	}
+
+	private static int pontosDe(OperadorDTO operador) {
+		return operador.getPontos() != null ? operador.getPontos() : 0;
+	}
+
+	// Chave ordenável: pontos invertidos nos bits altos (maior pontuação primeiro) e id nos 31 bits baixos
+	private static long chave(int pontos, long id) {
+		if (id > ID_MAXIMO) {
+			throw new IllegalStateException("Id de operador fora da faixa do ranking: " + id);
+		}
+		return (((long) Integer.MAX_VALUE - pontos) << 31) | id;
+	}
+
+	// Array atual sem as chaves antigas dos alterados, intercalado com as novas (ordenadas antes)
+	private static long[] mesclar(long[] atuais, Set<Long> antigas, List<Long> novas) {
+		long[] inseridas = novas.stream().mapToLong(Long::longValue).sorted().toArray();
+		long[] resultado = new long[atuais.length + inseridas.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while (i < atuais.length || j < inseridas.length) {
+			if (i < atuais.length && antigas.contains(atuais[i])) {
+				i++;
+			} else if (j >= inseridas.length || i < atuais.length && atuais[i] < inseridas[j]) {
+				resultado[k++] = atuais[i++];
+			} else {
+				resultado[k++] = inseridas[j++];
+			}
+		}
+		return k == resultado.length ? resultado : Arrays.copyOf(resultado, k);
+	}
+}
@@ -1,9 +1,12 @@
 package com.play12.service;
 
+import com.play12.config.CacheConfig;
 import com.play12.dto.SquadDTO;
 import com.play12.entity.Squad;
 import com.play12.repository.SquadRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class SquadService {
 
 	private final SquadRepository squadRepository;
 
+	@CacheEvict(cacheNames = CacheConfig.SQUADS, allEntries = true)
 	public SquadDTO criar(SquadDTO dto) {
 		if (squadRepository.existsByNome(dto.getNome())) {
 			throw new IllegalArgumentException("Squad já existe");
@@ -32,10 +36,13 @@ public class SquadService {
 		return mapToDTO(squad);
 	}
 
+	@Transactional(readOnly = true)
+	@Cacheable(CacheConfig.SQUADS)
 	public List<SquadDTO> listar() {
 		return squadRepository.findAll().stream().map(this::mapToDTO).collect(Collectors.toList());
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.SQUADS, allEntries = true)
 	public SquadDTO atualizar(Long id, SquadDTO dto) {
 		Squad squad = squadRepository.findById(id)
 				.orElseThrow(() -> new IllegalArgumentException("Squad não encontrado"));
@@ -47,6 +54,7 @@ public class SquadService {
 		return mapToDTO(squadRepository.save(squad));
 	}
 
+	@CacheEvict(cacheNames = CacheConfig.SQUADS, allEntries = true)
 	public void deletar(Long id) {
 		if (!squadRepository.existsById(id)) {
 			throw new IllegalArgumentException("Squad não encontrado");
@@ -0,0 +1,288 @@
+package com.play12.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.play12.config.MercadoPagoConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Webhooks do Mercado Pago: o controller só enfileira e responde; workers drenam a fila,
+// consultam o recurso notificado e aplicam os status em lote. Fila e deduplicação são
+// em memória e valem para uma única instância da aplicação.
+// O Mercado Pago não reenvia o que recebeu 200: falha na consulta vira nova tentativa adiada,
+// nunca descarte por falta de vaga no bulkhead ou na fila.
+@Service
+@Slf4j
+public class WebhookService {
+
+    // Bulkhead cheio não conta como tentativa: a consulta nem saiu
+    private static final long ESPERA_BULKHEAD_MS = 1_000;
+    private static final long ESPERA_FILA_CHEIA_MS = 1_000;
+    private static final long ESPERA_MAXIMA_MS = 5 * 60_000;
+
+    private final MercadoPagoClient mercadoPagoClient;
+    private final PaymentService paymentService;
+    private final MercadoPagoAssinatura assinatura;
+    private final int tamanhoLote;
+    private final int consultasPorWorker;
+    private final int maxTentativas;
+
+    private final BlockingQueue<Notificacao> fila;
+    private final Cache<String, Boolean> recebidas;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService reagendamento;
+    private final AtomicInteger agendadas = new AtomicInteger();
+
+    public enum Recebimento { ACEITA, DUPLICADA, IGNORADA, FILA_CHEIA, ASSINATURA_INVALIDA }
+
+    public record Notificacao(String id, String tipo, String recursoId, int tentativas) {
+    }
+
+    public WebhookService(MercadoPagoClient mercadoPagoClient,
+                          PaymentService paymentService,
+                          MercadoPagoAssinatura assinatura,
+                          MercadoPagoConfig mercadoPagoConfig,
+                          @Value("${app.webhook.queue-capacity:10000}") int capacidadeFila,
+                          @Value("${app.webhook.workers:2}") int quantidadeWorkers,
+                          @Value("${app.webhook.batch-size:100}") int tamanhoLote,
+                          @Value("${app.webhook.dedup-ttl-minutes:10}") long ttlDeduplicacao,
+                          @Value("${app.webhook.max-attempts:15}") int maxTentativas) {
+        this.mercadoPagoClient = mercadoPagoClient;
+        this.paymentService = paymentService;
+        this.assinatura = assinatura;
+        this.tamanhoLote = tamanhoLote;
+        this.maxTentativas = maxTentativas;
+        // Os workers juntos não passam do bulkhead do cliente: o lote não disputa vagas que não existem
+        this.consultasPorWorker = Math.max(1, mercadoPagoConfig.getMaxConcurrentRequests() / quantidadeWorkers);
+        this.fila = new LinkedBlockingQueue<>(capacidadeFila);
+        this.recebidas = Caffeine.newBuilder()
+                .maximumSize(capacidadeFila * 10L)
+                .expireAfterWrite(Duration.ofMinutes(ttlDeduplicacao))
+                .build();
+        this.workers = Executors.newFixedThreadPool(quantidadeWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "webhook-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < quantidadeWorkers; i++) {
+            workers.submit(this::trabalhar);
+        }
+        this.reagendamento = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-retentativa");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Aceita tanto o formato IPN (?topic=payment&id=123) quanto o de webhooks
+    // (?type=payment&data.id=123, com o id da notificação no corpo)
+    public Recebimento receber(Map<String, String> params, Map<String, Object> corpo,
+                               String xSignature, String xRequestId) {
+        String tipo = primeiroPreenchido(params.get("type"), params.get("topic"),
+                valor(corpo, "type"), valor(corpo, "topic"));
+        String recursoId = primeiroPreenchido(params.get("data.id"), dataId(corpo), params.get("id"));
+
+        if (!"payment".equals(tipo) && !"merchant_order".equals(tipo) || recursoId == null) {
+            return Recebimento.IGNORADA;
+        }
+        // Antes de enfileirar: sem isso qualquer um gastaria consultas ao Mercado Pago com ids inventados.
+        // O id assinado (query string) tem que ser o mesmo que será consultado
+        String idAssinado = primeiroPreenchido(params.get("data.id"), params.get("id"));
+        if (!recursoId.equals(idAssinado) || !assinatura.valida(idAssinado, xSignature, xRequestId)) {
+            return Recebimento.ASSINATURA_INVALIDA;
+        }
+
+        String id = primeiroPreenchido(valor(corpo, "id"), tipo + ":" + recursoId);
+        if (recebidas.asMap().putIfAbsent(id, Boolean.TRUE) != null) {
+            return Recebimento.DUPLICADA;
+        }
+
+        if (!fila.offer(new Notificacao(id, tipo, recursoId, 0))) {
+            // Sem registro de recebida: a nova tentativa do Mercado Pago deve ser aceita
+            recebidas.invalidate(id);
+            return Recebimento.FILA_CHEIA;
+        }
+        return Recebimento.ACEITA;
+    }
+
+    public int pendentes() {
+        return fila.size() + agendadas.get();
+    }
+
+    private void trabalhar() {
+        List<Notificacao> lote = new ArrayList<>(tamanhoLote);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                lote.add(fila.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            fila.drainTo(lote, tamanhoLote - 1);
+            try {
+                processar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erro processando lote de webhooks", e);
+            }
+            lote.clear();
+        }
+    }
+
+    private void processar(List<Notificacao> lote) throws InterruptedException {
+        // Consultas ao Mercado Pago em paralelo, no máximo consultasPorWorker em voo
+        Semaphore emVoo = new Semaphore(consultasPorWorker);
+        List<CompletableFuture<PaymentService.AtualizacaoStatus>> consultas = new ArrayList<>(lote.size());
+        for (Notificacao notificacao : lote) {
+            emVoo.acquire();
+            consultas.add(consultar(notificacao).whenComplete((atualizacao, erro) -> emVoo.release()));
+        }
+
+        List<PaymentService.AtualizacaoStatus> atualizacoes = new ArrayList<>();
+        for (int i = 0; i < lote.size(); i++) {
+            Notificacao notificacao = lote.get(i);
+            try {
+                PaymentService.AtualizacaoStatus atualizacao = consultas.get(i).join();
+                if (atualizacao != null) {
+                    atualizacoes.add(atualizacao);
+                }
+            } catch (RuntimeException e) {
+                retentar(notificacao, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        if (!atualizacoes.isEmpty()) {
+            aplicar(atualizacoes);
+        }
+    }
+
+    private void aplicar(List<PaymentService.AtualizacaoStatus> atualizacoes) {
+        try {
+            paymentService.atualizarStatusEmLote(atualizacoes);
+        } catch (RuntimeException e) {
+            if (atualizacoes.size() == 1) {
+                log.warn("Atualização de status descartada {}: {}", atualizacoes.get(0), e.getMessage());
+                return;
+            }
+            // Uma atualização inválida não deve derrubar o lote inteiro
+            atualizacoes.forEach(atualizacao -> aplicar(List.of(atualizacao)));
+        }
+    }
+
+    private CompletableFuture<PaymentService.AtualizacaoStatus> consultar(Notificacao notificacao) {
+        if ("payment".equals(notificacao.tipo())) {
+            return mercadoPagoClient.get("/v1/payments/" + notificacao.recursoId(), MercadoPagoClient.Pagamento.class)
+                    .thenApply(pagamento -> new PaymentService.AtualizacaoStatus(
+                            null,
+                            pagamento.externalReference(),
+                            pagamento.orderId(),
+                            statusInterno(pagamento.status())));
+        }
+        return mercadoPagoClient.get("/merchant_orders/" + notificacao.recursoId(), MercadoPagoClient.OrdemComercial.class)
+                .thenApply(ordem -> new PaymentService.AtualizacaoStatus(
+                        ordem.preferenceId(),
+                        ordem.externalReference(),
+                        notificacao.recursoId(),
+                        statusInterno(ordem.orderStatus())));
+    }
+
+    private void retentar(Notificacao notificacao, Throwable erro) {
+        if (erro instanceof MercadoPagoOcupadoException) {
+            agendar(notificacao, ESPERA_BULKHEAD_MS);
+            return;
+        }
+        if (erro instanceof MercadoPagoApiException api && api.isDefinitivo()) {
+            // 404 de id inexistente, 401/403 de credencial: repetir não muda a resposta. A notificação
+            // continua em recebidas, então o mesmo id repetido também não gera nova consulta
+            log.warn("Notificação {} ({} {}) abandonada: {}", notificacao.id(), notificacao.tipo(),
+                    notificacao.recursoId(), erro.getMessage());
+            return;
+        }
+        int tentativas = notificacao.tentativas() + 1;
+        if (tentativas >= maxTentativas) {
+            // Só falhas transitórias chegam aqui (~40 min com o padrão): Mercado Pago fora do ar ou
+            // respondendo 5xx por muito tempo. Fica no log para conciliação manual
+            log.error("Notificação {} ({} {}) abandonada após {} tentativas: {}", notificacao.id(),
+                    notificacao.tipo(), notificacao.recursoId(), tentativas, erro.getMessage());
+            recebidas.invalidate(notificacao.id());
+            return;
+        }
+        // 1 s, 2 s, 4 s... até 5 min entre tentativas
+        long espera = Math.min(1_000L << Math.min(notificacao.tentativas(), 20), ESPERA_MAXIMA_MS);
+        log.warn("Notificação {} falhou ({}), nova tentativa em {} ms", notificacao.id(), erro.getMessage(), espera);
+        agendar(new Notificacao(notificacao.id(), notificacao.tipo(), notificacao.recursoId(), tentativas), espera);
+    }
+
+    // Volta para a fila depois da espera; com a fila cheia, espera de novo em vez de descartar
+    private void agendar(Notificacao notificacao, long esperaMs) {
+        agendadas.incrementAndGet();
+        reagendamento.schedule(() -> {
+            agendadas.decrementAndGet();
+            if (!fila.offer(notificacao)) {
+                agendar(notificacao, ESPERA_FILA_CHEIA_MS);
+            }
+        }, esperaMs, TimeUnit.MILLISECONDS);
+    }
+
+    private String statusInterno(String statusMercadoPago) {
+        if (statusMercadoPago == null) {
+            return null;
+        }
+        return switch (statusMercadoPago) {
+            case "approved", "paid" -> "COMPLETED";
+            case "pending", "in_process", "authorized", "payment_required",
+                 "payment_in_process", "partially_paid" -> "PENDING";
+            case "rejected" -> "FAILED";
+            case "cancelled" -> "CANCELLED";
+            case "refunded", "charged_back", "reverted" -> "REFUNDED";
+            case "expired" -> "EXPIRED";
+            default -> null;
+        };
+    }
+
+    private String valor(Map<String, Object> corpo, String chave) {
+        Object valor = corpo != null ? corpo.get(chave) : null;
+        return valor != null ? valor.toString() : null;
+    }
+
+    private String dataId(Map<String, Object> corpo) {
+        return corpo != null && corpo.get("data") instanceof Map<?, ?> data && data.get("id") != null
+                ? data.get("id").toString()
+                : null;
+    }
+
+    private String primeiroPreenchido(String... valores) {
+        for (String valor : valores) {
+            if (valor != null && !valor.isBlank()) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        reagendamento.shutdownNow();
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
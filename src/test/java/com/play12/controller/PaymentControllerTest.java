@@ -0,0 +1,179 @@
+package com.play12.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.play12.config.MercadoPagoConfig;
+import com.play12.config.PixConfig;
+import com.play12.dto.PIXPaymentResponseDTO;
+import com.play12.dto.PaymentRequestDTO;
+import com.play12.entity.Payment;
+import com.play12.repository.PaymentRepository;
+import com.play12.repository.ProductRepository;
+import com.play12.service.MercadoPagoClient;
+import com.play12.service.PagamentoStatusService;
+import com.play12.service.PaymentService;
+import com.play12.service.PixQrCodeService;
+import com.play12.service.WebhookService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Checkout PIX contra um Mercado Pago de mentira (HttpServer local): timeout, bulkhead cheio e sucesso
+class PaymentControllerTest {
+
+    private static final int TIMEOUT_MS = 500;
+
+    private HttpServer stub;
+    private ExecutorService threadsStub;
+    private volatile CountDownLatch segurar;
+    private volatile CountDownLatch chegou;
+    private volatile long atrasoMs;
+
+    private PaymentRepository paymentRepository;
+    private PaymentService paymentService;
+    private PaymentController controller;
+    private final AtomicReference<String> threadDoSave = new AtomicReference<>();
+
+    @BeforeEach
+    void subir() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        threadsStub = Executors.newCachedThreadPool();
+        stub.setExecutor(threadsStub);
+        stub.createContext("/checkout/preferences", this::responderPreferencia);
+        stub.start();
+
+        MercadoPagoConfig config = new MercadoPagoConfig();
+        ReflectionTestUtils.setField(config, "accessToken", "teste");
+        ReflectionTestUtils.setField(config, "baseUrl", "http://localhost:" + stub.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", 1_000);
+        ReflectionTestUtils.setField(config, "requestTimeoutMs", TIMEOUT_MS);
+        ReflectionTestUtils.setField(config, "maxConcurrentRequests", 1);
+        ReflectionTestUtils.setField(config, "pixExpirationMinutes", 30);
+
+        PixConfig pixConfig = new PixConfig();
+        ReflectionTestUtils.setField(pixConfig, "bankIntegration", "MERCADOPAGO");
+
+        paymentRepository = mock(PaymentRepository.class);
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocacao -> {
+            threadDoSave.set(Thread.currentThread().getName());
+            return invocacao.getArgument(0);
+        });
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MercadoPagoClient client = new MercadoPagoClient(config, meterRegistry, new ObjectMapper());
+        paymentService = new PaymentService(paymentRepository, mock(ProductRepository.class), config, client,
+                new PixQrCodeService(pixConfig), mock(ApplicationEventPublisher.class), meterRegistry, 2);
+        controller = new PaymentController(paymentService, mock(WebhookService.class),
+                mock(PagamentoStatusService.class));
+    }
+
+    @AfterEach
+    void derrubar() throws InterruptedException {
+        stub.stop(0);
+        threadsStub.shutdownNow();
+        paymentService.encerrar();
+    }
+
+    @Test
+    void sucessoGravaForaDasThreadsDoHttpClient() {
+        ResponseEntity<PIXPaymentResponseDTO> resposta = criar().join();
+
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resposta.getBody().getTransactionId()).isEqualTo("pref-123");
+        assertThat(resposta.getBody().getPaymentLink()).isEqualTo("https://mp.test/checkout");
+        assertThat(threadDoSave.get()).isEqualTo("pagamento-persistencia");
+    }
+
+    @Test
+    void timeoutViraErroSemGravarELiberaOBulkhead() {
+        atrasoMs = TIMEOUT_MS * 4L;
+
+        ResponseEntity<PIXPaymentResponseDTO> resposta = criar().join();
+
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(resposta.getBody().getStatus()).isEqualTo("ERROR");
+        verify(paymentRepository, never()).save(any(Payment.class));
+
+        // A vaga do bulkhead voltou: a próxima chamada passa
+        atrasoMs = 0;
+        assertThat(criar().join().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void bulkheadCheioRecusaNaHoraCom503() throws InterruptedException {
+        segurar = new CountDownLatch(1);
+        chegou = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<PIXPaymentResponseDTO>> primeira = criar();
+        assertThat(chegou.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Recusada antes de chegar ao Mercado Pago: o future já volta pronto para quem chamou
+        CompletableFuture<ResponseEntity<PIXPaymentResponseDTO>> segunda = criar();
+        assertThat(segunda).isDone();
+        assertThat(segunda.join().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        segurar.countDown();
+        assertThat(primeira.join().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private CompletableFuture<ResponseEntity<PIXPaymentResponseDTO>> criar() {
+        PaymentRequestDTO request = new PaymentRequestDTO();
+        request.setPayerEmail("operador@play12.com.br");
+        request.setPayerName("Operador Teste");
+        request.setAmount(new BigDecimal("149.90"));
+        request.setQuantity(1);
+        return controller.createPixPayment(request);
+    }
+
+    private void responderPreferencia(HttpExchange troca) throws IOException {
+        try {
+            marcarChegada();
+            if (atrasoMs > 0) {
+                Thread.sleep(atrasoMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] corpo = """
+                {"id":"pref-123","init_point":"https://mp.test/checkout","collector_id":42}"""
+                .getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().add("Content-Type", "application/json");
+        troca.sendResponseHeaders(201, corpo.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+
+    private void marcarChegada() throws InterruptedException {
+        if (chegou != null) {
+            chegou.countDown();
+        }
+        if (segurar != null) {
+            segurar.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
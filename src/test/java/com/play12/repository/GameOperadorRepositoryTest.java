@@ -0,0 +1,131 @@
+package com.play12.repository;
+
+import com.play12.dto.GameOperadorDTO;
+import com.play12.entity.Game;
+import com.play12.entity.GameOperador;
+import com.play12.entity.Operador;
+import com.play12.entity.Squad;
+import com.play12.enumeracao.TipoJogo;
+import com.play12.service.GameService;
+import com.play12.service.GameVagas;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Elenco de um jogo em uma única consulta: volta o N+1 (um SELECT de operador por inscrição) e o build falha
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({GameService.class, GameVagas.class})
+class GameOperadorRepositoryTest {
+
+	private static final int ELENCO_PEQUENO = 3;
+	private static final int ELENCO_GRANDE = 40;
+
+	@Autowired
+	private GameOperadorRepository gameOperadorRepository;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long jogoPequeno;
+	private Long jogoGrande;
+	private int operadores;
+
+	@BeforeEach
+	void popular() {
+		Squad squad = entityManager.persist(Squad.builder()
+				.nome("Squad Teste")
+				.qtdOperadores(ELENCO_PEQUENO + ELENCO_GRANDE)
+				.jogosJogados(0)
+				.pontuacaoTotal(0)
+				.build());
+		jogoPequeno = criarJogo("Operação Pequena", ELENCO_PEQUENO, squad);
+		jogoGrande = criarJogo("Operação Grande", ELENCO_GRANDE, squad);
+		entityManager.flush();
+		// Sem nada no contexto de persistência: a leitura precisa ir ao banco
+		entityManager.clear();
+	}
+
+	@Test
+	void elencoCarregadoEmUmaConsulta() {
+		Statistics estatisticas = estatisticas();
+
+		List<GameOperadorDTO> elenco = gameOperadorRepository.findDTOsByGameId(jogoGrande);
+
+		assertThat(elenco).hasSize(ELENCO_GRANDE);
+		assertThat(elenco).allSatisfy(inscrito -> assertThat(inscrito.getNickname()).isNotNull());
+		assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void consultasDoServicoNaoCrescemComOElenco() {
+		Statistics estatisticas = estatisticas();
+		List<GameOperadorDTO> pequeno = gameService.listarOperadoresDoJogo(jogoPequeno);
+		long consultasPequeno = estatisticas.getPrepareStatementCount();
+
+		entityManager.clear();
+		estatisticas.clear();
+		List<GameOperadorDTO> grande = gameService.listarOperadoresDoJogo(jogoGrande);
+		long consultasGrande = estatisticas.getPrepareStatementCount();
+
+		assertThat(pequeno).hasSize(ELENCO_PEQUENO);
+		assertThat(grande).hasSize(ELENCO_GRANDE);
+		assertThat(consultasPequeno).isPositive();
+		assertThat(consultasGrande).isEqualTo(consultasPequeno);
+	}
+
+	private Statistics estatisticas() {
+		Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		estatisticas.clear();
+		return estatisticas;
+	}
+
+	private Long criarJogo(String titulo, int inscritos, Squad squad) {
+		Game game = entityManager.persist(Game.builder()
+				.titulo(titulo)
+				.tipo(TipoJogo.values()[0])
+				.data(LocalDate.now().plusDays(7))
+				.horario(LocalTime.of(8, 0))
+				.local("Campo Play12")
+				.confirmados(inscritos)
+				.status("Próximo")
+				.build());
+		for (int i = 0; i < inscritos; i++, operadores++) {
+			Operador operador = entityManager.persist(Operador.builder()
+					.email("operador" + operadores + "@play12.com.br")
+					.nickname("Operador" + operadores)
+					.senha("hash")
+					.nomeCompleto("Operador Teste " + operadores)
+					.telefone("11999990000")
+					.squad(squad)
+					.pontos(i)
+					.build());
+			entityManager.persist(GameOperador.builder()
+					.game(game)
+					.operador(operador)
+					.squad(squad.getNome())
+					.build());
+		}
+		return game.getId();
+	}
+}